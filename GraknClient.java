@@ -19,8 +19,14 @@
 
 package grakn.client;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListeners;
+import com.google.common.cache.RemovalNotification;
 import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import grakn.client.answer.Answer;
 import grakn.client.answer.AnswerGroup;
 import grakn.client.answer.ConceptList;
@@ -36,15 +42,23 @@ import grakn.client.concept.Concept;
 import grakn.client.concept.ConceptId;
 import grakn.client.concept.EntityType;
 import grakn.client.concept.Label;
+import grakn.client.concept.Relation;
 import grakn.client.concept.RelationType;
 import grakn.client.concept.Role;
 import grakn.client.concept.Rule;
 import grakn.client.concept.SchemaConcept;
+import grakn.client.concept.Thing;
 import grakn.client.concept.ConceptImpl;
+import grakn.client.concept.ConceptProperty;
 import grakn.client.exception.GraknClientException;
+import grakn.client.rpc.ChannelPool;
+import grakn.client.rpc.ConcurrencyLimiter;
+import grakn.client.rpc.HedgingPolicy;
+import grakn.client.rpc.Publisher;
 import grakn.client.rpc.RequestBuilder;
 import grakn.client.rpc.ResponseReader;
 import grakn.client.rpc.Transceiver;
+import grakn.client.rpc.WaitStrategy;
 import grakn.protocol.keyspace.KeyspaceProto;
 import grakn.protocol.keyspace.KeyspaceServiceGrpc;
 import grakn.protocol.keyspace.KeyspaceServiceGrpc.KeyspaceServiceBlockingStub;
@@ -63,17 +77,62 @@ import graql.lang.query.GraqlQuery;
 import graql.lang.query.GraqlUndefine;
 import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.netty.NettyChannelBuilder;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
 
 import javax.annotation.CheckReturnValue;
 import javax.annotation.Nullable;
 import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -87,9 +146,16 @@ public class GraknClient implements AutoCloseable {
     public static final String DEFAULT_URI = "localhost:48555";
 
     private ManagedChannel channel;
+    private ChannelPool channels;
     private String username;
     private String password;
     private Keyspaces keyspaces;
+    private WaitStrategy waitStrategy = WaitStrategy.blocking();
+    private SessionCache sessionCache;
+    // The schema cache of each keyspace, shared by the sessions of the client which cache the schema
+    private final Map<String, SchemaCache> schemaCaches = new ConcurrentHashMap<>();
+    private EventLoopGroup eventLoopGroup;
+    private ConcurrencyLimiter concurrencyLimiter;
 
     public GraknClient() {
         this(DEFAULT_URI);
@@ -100,34 +166,278 @@ public class GraknClient implements AutoCloseable {
     }
 
     public GraknClient(String address, String username, String password) {
-        channel = ManagedChannelBuilder.forTarget(address)
-                .usePlaintext().build();
+        this(ChannelPool.of(ManagedChannelBuilder.forTarget(address).usePlaintext().build()), username, password);
+    }
+
+    private GraknClient(ChannelPool channels, String username, String password) {
+        this.channels = channels;
+        this.channel = channels.primary();
         this.username = username;
         this.password = password;
         keyspaces = new Keyspaces(channel, this.username, this.password);
     }
 
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builds a GraknClient over a Netty channel whose transport and HTTP/2 settings can be tuned.
+     * Settings left unset keep the gRPC defaults.
+     * {@code
+     * GraknClient client = GraknClient.builder()
+     *         .address("grakn:48555")
+     *         .nativeTransport(true)
+     *         .eventLoopThreads(4)
+     *         .flowControlWindow(4 * 1024 * 1024)
+     *         .build();
+     * }
+     */
+    public static class Builder {
+
+        private String address = DEFAULT_URI;
+        private String username;
+        private String password;
+        private boolean nativeTransport = false;
+        private int eventLoopThreads = 0;
+        private boolean pooledAllocator = false;
+        private Integer flowControlWindow;
+        private Integer maxInboundMessageSize;
+        private Long keepAliveTimeNanos;
+        private Long keepAliveTimeoutNanos;
+        private boolean keepAliveWithoutCalls = false;
+        private Long idleTimeoutNanos;
+        private Executor executor;
+        private WaitStrategy waitStrategy = WaitStrategy.blocking();
+        private int channelPoolSize = 1;
+        private ChannelPool.Selection channelSelection = ChannelPool.Selection.ROUND_ROBIN;
+
+        private Builder() {}
+
+        public Builder address(String address) {
+            this.address = address;
+            return this;
+        }
+
+        public Builder credentials(String username, String password) {
+            this.username = username;
+            this.password = password;
+            return this;
+        }
+
+        /**
+         * Use the native epoll transport where it is available (Linux), falling back to NIO elsewhere.
+         */
+        public Builder nativeTransport(boolean nativeTransport) {
+            this.nativeTransport = nativeTransport;
+            return this;
+        }
+
+        /**
+         * Number of event loop threads serving the connection. 0 lets Netty pick, which is twice the number of cores.
+         */
+        public Builder eventLoopThreads(int eventLoopThreads) {
+            this.eventLoopThreads = eventLoopThreads;
+            return this;
+        }
+
+        /**
+         * Allocate network buffers from Netty's pooled allocator.
+         */
+        public Builder pooledAllocator(boolean pooledAllocator) {
+            this.pooledAllocator = pooledAllocator;
+            return this;
+        }
+
+        /**
+         * HTTP/2 flow control window, in bytes, which bounds how much the server can send before the client catches up.
+         */
+        public Builder flowControlWindow(int bytes) {
+            this.flowControlWindow = bytes;
+            return this;
+        }
+
+        public Builder maxInboundMessageSize(int bytes) {
+            this.maxInboundMessageSize = bytes;
+            return this;
+        }
+
+        /**
+         * Ping the server after this long without reading anything, and close the connection if no reply comes within
+         * the timeout. Pings are only sent while calls are open, unless #keepAliveWithoutCalls(boolean) is set.
+         */
+        public Builder keepAlive(long time, long timeout, TimeUnit unit) {
+            this.keepAliveTimeNanos = unit.toNanos(time);
+            this.keepAliveTimeoutNanos = unit.toNanos(timeout);
+            return this;
+        }
+
+        /**
+         * Keep pinging the server while no call is open. Off by default: servers limit how often clients may ping,
+         * 5 minutes apart by default without calls, and answer a client pinging more often with GOAWAY.
+         */
+        public Builder keepAliveWithoutCalls(boolean keepAliveWithoutCalls) {
+            this.keepAliveWithoutCalls = keepAliveWithoutCalls;
+            return this;
+        }
+
+        /**
+         * How long the connection may go without any open stream before it is closed, to be reopened on next use.
+         */
+        public Builder idleTimeout(long timeout, TimeUnit unit) {
+            this.idleTimeoutNanos = unit.toNanos(timeout);
+            return this;
+        }
+
+        /**
+         * Executor on which gRPC runs response callbacks, including the completion of asynchronous calls.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder waitStrategy(WaitStrategy waitStrategy) {
+            this.waitStrategy = Objects.requireNonNull(waitStrategy);
+            return this;
+        }
+
+        /**
+         * Open this many channels, each with its own connection, and pin every new transaction to one of them.
+         * All channels share the same event loop group.
+         */
+        public Builder channelPool(int size, ChannelPool.Selection selection) {
+            this.channelPoolSize = size;
+            this.channelSelection = Objects.requireNonNull(selection);
+            return this;
+        }
+
+        public GraknClient build() {
+            EventLoopGroup eventLoopGroup = eventLoopGroup();
+            ChannelPool channels;
+            try {
+                channels = ChannelPool.create(() -> channel(eventLoopGroup), channelPoolSize, channelSelection);
+            } catch (RuntimeException e) {
+                if (eventLoopGroup != null) eventLoopGroup.shutdownGracefully();
+                throw e;
+            }
+
+            GraknClient client = new GraknClient(channels, username, password);
+            client.eventLoopGroup = eventLoopGroup;
+            client.waitStrategy = waitStrategy;
+            return client;
+        }
+
+        @Nullable
+        private EventLoopGroup eventLoopGroup() {
+            if (nativeTransport && Epoll.isAvailable()) {
+                return new EpollEventLoopGroup(eventLoopThreads, new ThreadFactoryBuilder()
+                        .setNameFormat("grakn-client-epoll-%d").setDaemon(true).build());
+            } else if (eventLoopThreads > 0) {
+                return new NioEventLoopGroup(eventLoopThreads, new ThreadFactoryBuilder()
+                        .setNameFormat("grakn-client-nio-%d").setDaemon(true).build());
+            } else {
+                return null;
+            }
+        }
+
+        private ManagedChannel channel(@Nullable EventLoopGroup eventLoopGroup) {
+            NettyChannelBuilder channelBuilder = NettyChannelBuilder.forTarget(address).usePlaintext();
+
+            if (eventLoopGroup instanceof EpollEventLoopGroup) {
+                channelBuilder.eventLoopGroup(eventLoopGroup).channelType(EpollSocketChannel.class);
+            } else if (eventLoopGroup != null) {
+                channelBuilder.eventLoopGroup(eventLoopGroup).channelType(NioSocketChannel.class);
+            }
+            if (pooledAllocator) channelBuilder.withOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
+            if (flowControlWindow != null) channelBuilder.flowControlWindow(flowControlWindow);
+            if (maxInboundMessageSize != null) channelBuilder.maxInboundMessageSize(maxInboundMessageSize);
+            if (keepAliveTimeNanos != null) {
+                channelBuilder.keepAliveTime(keepAliveTimeNanos, TimeUnit.NANOSECONDS)
+                        .keepAliveTimeout(keepAliveTimeoutNanos, TimeUnit.NANOSECONDS)
+                        .keepAliveWithoutCalls(keepAliveWithoutCalls);
+            }
+            if (idleTimeoutNanos != null) channelBuilder.idleTimeout(idleTimeoutNanos, TimeUnit.NANOSECONDS);
+            if (executor != null) channelBuilder.executor(executor);
+            return channelBuilder.build();
+        }
+    }
+
     public GraknClient overrideChannel(ManagedChannel channel) {
         this.channel = channel;
+        this.channels = ChannelPool.of(channel);
+        return this;
+    }
+
+    /**
+     * Set how transactions of sessions opened from now on wait for responses from the server.
+     */
+    public GraknClient waitStrategy(WaitStrategy waitStrategy) {
+        this.waitStrategy = Objects.requireNonNull(waitStrategy);
+        return this;
+    }
+
+    /**
+     * Reuse open sessions across calls to #session(String), keeping at most maxOpen of them, and closing those that
+     * have not been asked for in the last maxIdle.
+     *
+     * @see SessionCache
+     */
+    public GraknClient cacheSessions(int maxOpen, long maxIdle, TimeUnit unit) {
+        if (sessionCache != null) sessionCache.close();
+        sessionCache = new SessionCache(this, maxOpen, unit.toMillis(maxIdle));
         return this;
     }
 
+    @Nullable
+    public SessionCache sessionCache() {
+        return sessionCache;
+    }
+
+    /**
+     * Limit how many transactions of sessions opened from now on are open at once, all sessions together.
+     *
+     * @see ConcurrencyLimiter
+     */
+    public GraknClient limitConcurrency(ConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = Objects.requireNonNull(concurrencyLimiter);
+        return this;
+    }
+
+    @Nullable
+    public ConcurrencyLimiter concurrencyLimiter() {
+        return concurrencyLimiter;
+    }
 
     public void close() {
-        channel.shutdown();
+        if (sessionCache != null) sessionCache.close();
+        channels.shutdown();
         try {
-            channel.awaitTermination(10, TimeUnit.SECONDS);
+            channels.awaitTermination(10, TimeUnit.SECONDS);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
+        if (eventLoopGroup != null) eventLoopGroup.shutdownGracefully();
     }
 
     public boolean isOpen() {
-        return !channel.isShutdown() || !channel.isTerminated();
+        return !channels.isShutdown() || !channels.isTerminated();
     }
 
+    /**
+     * Open a session on the keyspace, or, if sessions are cached, return the cached session on the keyspace.
+     * Cached sessions are shared, and closed by the cache rather than by their users. When one is evicted, its
+     * transaction pools are closed straight away, but the session itself is only closed once the last of its open
+     * transactions is closed. A transaction opened on it after that fails, so a cached session should be asked for
+     * again for each unit of work rather than held on to.
+     */
     public Session session(String keyspace) {
-        return new Session(channel, username, password, keyspace);
+        if (sessionCache != null) return sessionCache.get(keyspace);
+        return openSession(keyspace);
+    }
+
+    private Session openSession(String keyspace) {
+        return new Session(channels, username, password, keyspace, waitStrategy, concurrencyLimiter, schemaCaches);
     }
 
     public Keyspaces keyspaces() {
@@ -147,12 +457,29 @@ public class GraknClient implements AutoCloseable {
         protected SessionServiceGrpc.SessionServiceBlockingStub sessionStub;
         protected String sessionId;
         protected boolean isOpen;
-
-        private Session(ManagedChannel channel, String username, String password, String keyspace) {
+        private final WaitStrategy waitStrategy;
+        private final ConcurrencyLimiter concurrencyLimiter;
+        private final ChannelPool channels;
+        private final List<TransactionPool> transactionPools = new CopyOnWriteArrayList<>();
+        private final Map<String, SchemaCache> schemaCaches;
+        private volatile SchemaCache schemaCache;
+        private final AtomicInteger openTransactions = new AtomicInteger();
+        // Times the session cache handed the session out without a transaction being opened on it since
+        private final AtomicInteger pins = new AtomicInteger();
+        private volatile long pinnedAt;
+        // Set once the session is to be closed as soon as none of its transactions is open
+        private volatile ScheduledExecutorService closer;
+
+        private Session(ChannelPool channels, String username, String password, String keyspace, WaitStrategy waitStrategy,
+                        @Nullable ConcurrencyLimiter concurrencyLimiter, Map<String, SchemaCache> schemaCaches) {
             this.username = username;
             this.password = password;
             this.keyspace = keyspace;
-            this.channel = channel;
+            this.channels = channels;
+            this.channel = channels.primary();
+            this.waitStrategy = waitStrategy;
+            this.concurrencyLimiter = concurrencyLimiter;
+            this.schemaCaches = schemaCaches;
             this.sessionStub = SessionServiceGrpc.newBlockingStub(channel);
 
             SessionProto.Session.Open.Req.Builder open = RequestBuilder.Session.open(keyspace).newBuilderForType();
@@ -170,171 +497,848 @@ public class GraknClient implements AutoCloseable {
         }
 
         public GraknClient.Transaction.Builder transaction() {
-            return new Transaction.Builder(channel, this, sessionId);
+            return new Transaction.Builder(channels.select(), this, sessionId);
         }
 
         public GraknClient.Transaction transaction(Transaction.Type type) {
-            return new Transaction(channel, this, sessionId, type);
+            return new Transaction(transaction(), type);
+        }
+
+        /**
+         * A pool of READ transactions kept open ahead of use, whose idle transactions expire after 30 seconds, and
+         * which are retired 5 minutes after they were opened.
+         */
+        public TransactionPool transactionPool(int size) {
+            return transactionPool(size, 30_000, 300_000, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Cache the schema concepts looked up by the transactions of this session, in the cache of the keyspace shared
+         * by every session of the client which caches the schema.
+         *
+         * @see SchemaCache
+         */
+        public synchronized Session cacheSchema() {
+            if (schemaCache == null) schemaCache = schemaCaches.computeIfAbsent(keyspace, k -> new SchemaCache());
+            return this;
+        }
+
+        @Nullable
+        public SchemaCache schemaCache() {
+            return schemaCache;
+        }
+
+        /**
+         * A pool of READ transactions whose idle transactions expire after maxIdle, and which are retired ten times
+         * maxIdle after they were opened.
+         */
+        public TransactionPool transactionPool(int size, long maxIdle, TimeUnit unit) {
+            return transactionPool(size, maxIdle, maxIdle * 10, unit);
+        }
+
+        /**
+         * A pool of READ transactions whose idle transactions expire after maxIdle, and which are retired maxAge after
+         * they were opened, however often they are reused, which bounds how stale their view of the data can be.
+         */
+        public TransactionPool transactionPool(int size, long maxIdle, long maxAge, TimeUnit unit) {
+            TransactionPool pool = new TransactionPool(this, size, unit.toMillis(maxIdle), unit.toMillis(maxAge));
+            transactionPools.add(pool);
+            return pool;
         }
 
         public boolean isOpen() {
             return isOpen;
         }
 
-        public void close() {
+        public synchronized void close() {
             if (!isOpen) return;
+            transactionPools.forEach(TransactionPool::close);
             sessionStub.close(RequestBuilder.Session.close(sessionId));
             isOpen = false;
         }
 
-        public Keyspace keyspace() {
-            return Keyspace.of(keyspace);
+        /**
+         * Close the session on the given executor once none of its transactions is open, rather than under the feet of
+         * the ones still in use. Its transaction pools are closed straight away.
+         */
+        private void closeWhenIdle(ScheduledExecutorService closer) {
+            this.closer = closer;
+            transactionPools.forEach(TransactionPool::close);
+            closeIfIdle();
         }
-    }
-
-    public static class Transaction implements AutoCloseable {
-        private final Session session;
-        private final Type type;
-        private final Transceiver transceiver;
 
-        public static class Builder {
+        /**
+         * Count the session as in use until a transaction is opened on it, so that the session cache cannot close it
+         * between handing it out and the caller opening a transaction. A pin which is never used for a transaction
+         * keeps the session open for at most a second.
+         */
+        private void pin() {
+            pinnedAt = System.currentTimeMillis();
+            pins.incrementAndGet();
+        }
 
-            private ManagedChannel channel;
-            private GraknClient.Session session;
-            private String sessionId;
+        private void transactionOpened() {
+            openTransactions.incrementAndGet();
+            pins.getAndUpdate(pinned -> Math.max(pinned - 1, 0));
+        }
 
-            public Builder(ManagedChannel channel, GraknClient.Session session, String sessionId) {
-                this.channel = channel;
-                this.session = session;
-                this.sessionId = sessionId;
-            }
+        private void transactionClosed() {
+            if (openTransactions.decrementAndGet() == 0) closeIfIdle();
+        }
 
-            public GraknClient.Transaction read() {
-                return new GraknClient.Transaction(channel, session, sessionId, Transaction.Type.READ);
+        /**
+         * If the session is to be closed, close it on the closer unless it is in use. A session which is only pinned
+         * is checked again once its pin runs out.
+         */
+        private void closeIfIdle() {
+            ScheduledExecutorService closer = this.closer;
+            if (closer == null || !isOpen || openTransactions.get() > 0) return;
+            long pinnedFor = pins.get() == 0 ? 0 : pinnedAt + SessionCache.PIN_MILLIS - System.currentTimeMillis();
+            try {
+                if (pinnedFor > 0) {
+                    closer.schedule(this::closeIfIdle, pinnedFor, TimeUnit.MILLISECONDS);
+                } else {
+                    closer.execute(() -> {
+                        // A transaction may have been opened since
+                        if (openTransactions.get() == 0) closeQuietly();
+                    });
+                }
+            } catch (RejectedExecutionException e) {
+                closeQuietly(); // the cache was closed in the meantime
             }
+        }
 
-            public GraknClient.Transaction write() {
-                return new GraknClient.Transaction(channel, session, sessionId, Transaction.Type.WRITE);
+        private void closeQuietly() {
+            try {
+                close();
+            } catch (RuntimeException e) {
+                // The session is being discarded, and the server will time it out if it did not hear about it
             }
         }
 
-        public enum Type {
-            READ(0),  //Read only transaction where mutations to the graph are prohibited
-            WRITE(1); //Write transaction where the graph can be mutated
+        public Keyspace keyspace() {
+            return Keyspace.of(keyspace);
+        }
+    }
 
-            private final int type;
+    /**
+     * A bounded cache of open sessions by keyspace. When more than the maximum number of sessions are open, the least
+     * recently used ones are evicted, as are sessions which have been idle for longer than the maximum idle time.
+     * Evicted sessions are closed asynchronously on a background thread, so that the caller switching keyspace never
+     * waits on a close round trip, and not before their open transactions are closed. A session handed out by #get is
+     * not closed before its caller opens a transaction on it either, unless it goes unused for a second.
+     *
+     * @see GraknClient#session(String)
+     */
+    public static class SessionCache implements AutoCloseable {
 
-            Type(int type) {
-                this.type = type;
-            }
+        // How long a session handed out by #get is kept open for a transaction to be opened on it
+        private static final long PIN_MILLIS = 1_000;
 
-            public int id() {
-                return type;
-            }
+        private final Cache<String, Session> sessions;
+        private final ScheduledExecutorService closer;
+        private final GraknClient client;
 
-            @Override
-            public String toString() {
-                return this.name();
+        private SessionCache(GraknClient client, int maxOpen, long maxIdleMillis) {
+            if (maxOpen < 1) {
+                throw new IllegalArgumentException("Session cache must hold at least 1 session, was " + maxOpen);
             }
-
-            public static Type of(int value) {
-                for (Type t : Type.values()) {
-                    if (t.type == value) return t;
+            this.client = client;
+            this.closer = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("grakn-session-cache-%d").setDaemon(true).build()
+            );
+            this.sessions = CacheBuilder.newBuilder()
+                    .maximumSize(maxOpen)
+                    .expireAfterAccess(maxIdleMillis, TimeUnit.MILLISECONDS)
+                    .removalListener(RemovalListeners.asynchronous(
+                            (RemovalNotification<String, Session> removed) -> removed.getValue().closeWhenIdle(closer), closer
+                    ))
+                    .recordStats()
+                    .build();
+            // Idle sessions are otherwise only evicted when the cache is next used
+            long cleanUpInterval = Math.max(maxIdleMillis / 2, 100);
+            closer.scheduleWithFixedDelay(sessions::cleanUp, cleanUpInterval, cleanUpInterval, TimeUnit.MILLISECONDS);
+        }
+
+        public Session get(String keyspace) {
+            while (true) {
+                // Looked up through the map view, which does not count towards the hit and miss statistics
+                Session session = sessions.asMap().get(keyspace);
+                if (session != null && !session.isOpen()) {
+                    sessions.invalidate(keyspace);
                 }
-                return null;
-            }
-
-            public static Type of(String value) {
-                for (Type t : Type.values()) {
-                    if (t.name().equalsIgnoreCase(value)) return t;
+                try {
+                    session = sessions.get(keyspace, () -> client.openSession(keyspace));
+                } catch (ExecutionException | UncheckedExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new RuntimeException(e.getCause());
                 }
-                return null;
+                session.pin();
+                // Closed after it was looked up but before it was pinned, so look it up again
+                if (session.isOpen()) return session;
             }
         }
 
-        private Transaction(ManagedChannel channel, Session session, String sessionId, Type type) {
-            this.transceiver = Transceiver.create(SessionServiceGrpc.newStub(channel));
-            this.session = session;
-            this.type = type;
-            transceiver.send(RequestBuilder.Transaction.open(sessionId, type));
-            responseOrThrow();
+        /**
+         * Forget the session on the keyspace, if one is cached, and close it once its open transactions are closed.
+         */
+        public void invalidate(String keyspace) {
+            sessions.invalidate(keyspace);
         }
 
-        public Type type() {
-            return type;
+        public long size() {
+            return sessions.size();
         }
 
-        public GraknClient.Session session() {
-            return session;
+        public long hitCount() {
+            return sessions.stats().hitCount();
         }
 
-        public Keyspace keyspace() {
-            return session.keyspace();
+        public long missCount() {
+            return sessions.stats().missCount();
         }
 
-        public List<ConceptMap> execute(GraqlDefine query) {
-            return stream(query).collect(Collectors.toList());
+        public long evictionCount() {
+            return sessions.stats().evictionCount();
         }
 
-        public List<ConceptMap> execute(GraqlUndefine query) {
-            return stream(query).collect(Collectors.toList());
+        /**
+         * Evict every session, closing each once its open transactions are closed, as eviction does. Sessions still
+         * in use when the background thread has stopped are closed by the thread which closes their last transaction.
+         */
+        @Override
+        public void close() {
+            sessions.invalidateAll();
+            closer.shutdown();
         }
+    }
 
-        public List<ConceptMap> execute(GraqlInsert query, boolean infer) {
-            return stream(query, infer).collect(Collectors.toList());
-        }
-        public List<ConceptMap> execute(GraqlInsert query) {
-            return stream(query).collect(Collectors.toList());
+    /**
+     * A cache of the schema concepts of a keyspace, by label and by id, shared by the sessions of a client on the
+     * keyspace which cache the schema. Once a schema concept is cached, looking it up by label, and reading its label
+     * or data type, takes no round trip.
+     *
+     * The cache is cleared when a transaction which changed the schema commits through any session of the client on the
+     * keyspace, whether or not that session caches the schema, and is not used by that transaction from its first
+     * change. Changes made through other clients are only seen after #invalidate() or #refresh(Transaction).
+     *
+     * Every clear starts a new generation of the cache. A transaction only uses the cache while it is in the generation
+     * the transaction was opened in, and entries it read are only added if the cache is still in that generation, so
+     * that a transaction opened before a schema change cannot fill the cache again with what it saw.
+     */
+    public static class SchemaCache {
+
+        private final Map<Label, Entry> byLabel = new ConcurrentHashMap<>();
+        private final Map<ConceptId, Entry> byId = new ConcurrentHashMap<>();
+        private volatile long generation = 0;
+
+        private SchemaCache() {}
+
+        /**
+         * A cached schema concept: its label, its id and base type, and the data type of an attribute type once known.
+         */
+        public static final class Entry {
+            private final Label label;
+            private final ConceptProto.Concept concept;
+            private final AttributeType.DataType<?> dataType;
+
+            private Entry(Label label, ConceptProto.Concept concept, @Nullable AttributeType.DataType<?> dataType) {
+                this.label = label;
+                this.concept = concept;
+                this.dataType = dataType;
+            }
+
+            public Label label() {
+                return label;
+            }
+
+            public ConceptId id() {
+                return ConceptId.of(concept.getId());
+            }
+
+            ConceptProto.Concept concept() {
+                return concept;
+            }
+
+            @Nullable
+            public AttributeType.DataType<?> dataType() {
+                return dataType;
+            }
         }
 
-        public List<Void> execute(GraqlDelete query, boolean infer) {
-            return stream(query, infer).collect(Collectors.toList());
+        @Nullable
+        public Entry get(Label label) {
+            return byLabel.get(label);
         }
-        public List<Void> execute(GraqlDelete query) {
-            return stream(query).collect(Collectors.toList());
+
+        @Nullable
+        public Entry get(ConceptId id) {
+            return byId.get(id);
         }
 
-        public List<ConceptMap> execute(GraqlGet query, boolean infer) {
-            return stream(query, infer).collect(Collectors.toList());
+        synchronized void put(Label label, ConceptProto.Concept concept) {
+            ConceptId id = ConceptId.of(concept.getId());
+            Entry previous = byId.get(id);
+            Entry entry = new Entry(label, concept, previous == null ? null : previous.dataType);
+            byLabel.put(label, entry);
+            byId.put(id, entry);
         }
-        public List<ConceptMap> execute(GraqlGet query) {
-            return stream(query).collect(Collectors.toList());
+
+        /**
+         * Cache a schema concept read in the given generation, unless the cache has been cleared since.
+         */
+        public void put(Label label, SchemaConcept concept, long generation) {
+            put(label, RequestBuilder.ConceptMessage.from(concept), generation);
         }
 
-        public Stream<ConceptMap> stream(GraqlDefine query) {
-            Iterable<ConceptMap> iterable = () -> this.rpcIterator(query);
-            return StreamSupport.stream(iterable.spliterator(), false);
+        synchronized void put(Label label, ConceptProto.Concept concept, long generation) {
+            if (generation == this.generation) put(label, concept);
         }
 
-        public Stream<ConceptMap> stream(GraqlUndefine query) {
-            Iterable<ConceptMap> iterable = () -> this.rpcIterator(query);
-            return StreamSupport.stream(iterable.spliterator(), false);
+        /**
+         * Record the data type of a cached attribute type. Attribute types which are not cached are ignored.
+         */
+        public synchronized void putDataType(ConceptId id, AttributeType.DataType<?> dataType) {
+            Entry previous = byId.get(id);
+            if (previous == null) return;
+            Entry entry = new Entry(previous.label, previous.concept, dataType);
+            byLabel.put(entry.label, entry);
+            byId.put(id, entry);
         }
 
-        public Stream<ConceptMap> stream(GraqlInsert query, boolean infer) {
-            Iterable<ConceptMap> iterable = () -> this.rpcIterator(query, infer);
-            return StreamSupport.stream(iterable.spliterator(), false);
+        /**
+         * Record the data type of an attribute type read in the given generation, unless the cache has been cleared
+         * since.
+         */
+        public synchronized void putDataType(ConceptId id, AttributeType.DataType<?> dataType, long generation) {
+            if (generation == this.generation) putDataType(id, dataType);
         }
-        public Stream<ConceptMap> stream(GraqlInsert query) {
-            return stream(query, true);
+
+        public int size() {
+            return byLabel.size();
         }
 
-        public Stream<Void> stream(GraqlDelete query, boolean infer) {
-            Iterable<Void> iterable = () -> this.rpcIterator(query, infer);
-            return StreamSupport.stream(iterable.spliterator(), false);
+        /**
+         * The number of times the cache has been cleared.
+         */
+        public long generation() {
+            return generation;
         }
-        public Stream<Void> stream(GraqlDelete query) {
-            return stream(query, true);
+
+        public synchronized void invalidate() {
+            generation++;
+            byLabel.clear();
+            byId.clear();
         }
 
-        public Stream<ConceptMap> stream(GraqlGet query, boolean infer) {
-            Iterable<ConceptMap> iterable = () -> this.rpcIterator(query, infer);
+        /**
+         * Look up every label in the cache again through the transaction, with the requests pipelined, dropping those
+         * which no longer exist.
+         */
+        public void refresh(Transaction tx) {
+            List<Label> labels = new ArrayList<>(byLabel.keySet());
+            invalidate();
+            tx.new PipelinedIterator<Label, java.lang.Void>(
+                    labels.iterator(), Transaction.DEFAULT_PIPELINE_WINDOW, RequestBuilder.Transaction::getSchemaConcept,
+                    (label, response) -> {
+                        SessionProto.Transaction.GetSchemaConcept.Res getSchemaConceptRes = response.getGetSchemaConceptRes();
+                        if (getSchemaConceptRes.getResCase() != SessionProto.Transaction.GetSchemaConcept.Res.ResCase.NULL) {
+                            put(label, getSchemaConceptRes.getSchemaConcept());
+                        }
+                        return null;
+                    }
+            ).forEachRemaining(ignored -> {});
+        }
+    }
+
+    /**
+     * A pool of READ transactions of one Session, opened in the background so that handing one out does not wait for
+     * the open round trip. Transactions given back with #release(Transaction) are reused, and the ones closed by their
+     * user are replaced. A maintenance thread closes transactions that have been idle for longer than the maximum idle
+     * time, or open for longer than the maximum age, which bounds how stale a reused transaction's view of the data can
+     * be. It checks the others are still healthy with a cheap request, and keeps the pool topped up.
+     *
+     * An idle transaction gives its place back to the ConcurrencyLimiter of the client, if it has one, and takes a place
+     * again when it is handed out, so that a pool does not hold back transactions in use elsewhere.
+     */
+    public static class TransactionPool implements AutoCloseable {
+
+        private final Session session;
+        private final int size;
+        private final long maxIdleMillis;
+        private final long maxAgeMillis;
+        private final BlockingDeque<IdleTransaction> idle = new LinkedBlockingDeque<>();
+        private final ScheduledExecutorService maintainer;
+        private volatile boolean isOpen = true;
+
+        private TransactionPool(Session session, int size, long maxIdleMillis, long maxAgeMillis) {
+            if (size < 1) {
+                throw new IllegalArgumentException("Transaction pool size must be at least 1, was " + size);
+            }
+            this.session = session;
+            this.size = size;
+            this.maxIdleMillis = maxIdleMillis;
+            this.maxAgeMillis = maxAgeMillis;
+            this.maintainer = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("grakn-transaction-pool-%d").setDaemon(true).build()
+            );
+            long checkInterval = Math.max(Math.min(maxIdleMillis, maxAgeMillis) / 4, 100);
+            maintainer.scheduleWithFixedDelay(this::maintain, 0, checkInterval, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Take an open READ transaction from the pool, or open a new one if none is ready.
+         */
+        public Transaction acquire() {
+            if (!isOpen) throw closedError();
+
+            IdleTransaction candidate;
+            while ((candidate = idle.pollFirst()) != null) {
+                if (candidate.tx.isOpen() && !isTooOld(candidate.tx, System.currentTimeMillis())) {
+                    try {
+                        refillLater();
+                        candidate.tx.unparkLimiterSlot();
+                    } catch (RuntimeException e) {
+                        candidate.tx.close();
+                        throw e;
+                    }
+                    return candidate.tx;
+                }
+                candidate.tx.close();
+            }
+            refillLater();
+            return session.transaction(Transaction.Type.READ);
+        }
+
+        /**
+         * Give a transaction back to the pool for reuse. It is closed instead if it is no longer open, has reached the
+         * maximum age, or the pool is full.
+         */
+        public void release(Transaction tx) {
+            if (isOpen && tx.isOpen() && !isTooOld(tx, System.currentTimeMillis()) && idle.size() < size) {
+                tx.parkLimiterSlot();
+                idle.offerFirst(new IdleTransaction(tx));
+            } else {
+                tx.close();
+            }
+        }
+
+        /**
+         * Number of open transactions ready to be handed out.
+         */
+        public int idleCount() {
+            return idle.size();
+        }
+
+        public boolean isOpen() {
+            return isOpen;
+        }
+
+        @Override
+        public void close() {
+            if (!isOpen) return;
+            isOpen = false;
+            maintainer.shutdownNow();
+            session.transactionPools.remove(this);
+            closeIdle();
+        }
+
+        /**
+         * Have the maintenance thread top the pool up. A pool closed meanwhile has shut that thread down.
+         */
+        private void refillLater() {
+            try {
+                maintainer.execute(this::refill);
+            } catch (RejectedExecutionException e) {
+                throw closedError();
+            }
+        }
+
+        private static GraknClientException closedError() {
+            return GraknClientException.create("The transaction pool is closed");
+        }
+
+        private void maintain() {
+            long now = System.currentTimeMillis();
+            for (IdleTransaction idleTx : idle) {
+                // Take the transaction out while checking it, so that it cannot be handed out at the same time
+                if (!idle.remove(idleTx)) continue;
+                if (now - idleTx.since <= maxIdleMillis && !isTooOld(idleTx.tx, now) && isHealthy(idleTx.tx)) {
+                    idle.offerLast(idleTx);
+                } else {
+                    idleTx.tx.close();
+                }
+            }
+            refill();
+        }
+
+        private boolean isTooOld(Transaction tx, long now) {
+            return now - tx.openedAt > maxAgeMillis;
+        }
+
+        private boolean isHealthy(Transaction tx) {
+            if (!tx.isOpen()) return false;
+            try {
+                // Bypasses the schema cache, which could answer without asking the server
+                tx.request(RequestBuilder.Transaction.getSchemaConcept(Label.of(Graql.Token.Type.THING.toString())));
+                return true;
+            } catch (RuntimeException e) {
+                return false;
+            }
+        }
+
+        private void refill() {
+            try {
+                while (isOpen && session.isOpen() && idle.size() < size) {
+                    Transaction tx = session.transaction(Transaction.Type.READ);
+                    tx.parkLimiterSlot();
+                    idle.offerLast(new IdleTransaction(tx));
+                }
+            } catch (RuntimeException e) {
+                // The server could not be reached, try again on the next maintenance run
+            }
+            if (!isOpen) closeIdle();
+        }
+
+        private void closeIdle() {
+            IdleTransaction idleTx;
+            while ((idleTx = idle.pollFirst()) != null) {
+                idleTx.tx.close();
+            }
+        }
+
+        private static class IdleTransaction {
+            private final Transaction tx;
+            // When the transaction was last given back, rather than when it was opened, which the transaction keeps
+            private final long since;
+
+            IdleTransaction(Transaction tx) {
+                this.tx = tx;
+                this.since = System.currentTimeMillis();
+            }
+        }
+    }
+
+    public static class Transaction implements AutoCloseable {
+        static final int DEFAULT_PIPELINE_WINDOW = 256;
+        public static final int DEFAULT_MAX_IN_FLIGHT_WRITES = 256;
+
+        private final Session session;
+        private final Type type;
+        private final Transceiver transceiver;
+        private final ManagedChannel channel;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        // Set once commitAsync has sent the commit, whose response the transaction's resources are then held for
+        private volatile boolean committing = false;
+        // Whether the transaction holds a place of the session's ConcurrencyLimiter, which it gives up while pooled
+        private final AtomicBoolean holdsLimiterSlot;
+        private final long openedAt = System.currentTimeMillis();
+        private final int readAhead;
+        private final int maxBufferedResponses;
+        // Owners of the responses still due on the stream, in the order their requests were sent
+        private final Deque<Consumer<SessionProto.Transaction.Res>> pendingResponses = new ArrayDeque<>();
+        private final boolean threadSafe;
+        private final boolean writeBehind;
+        // Places for write-behind mutations whose response has not arrived yet, null unless the transaction writes behind
+        private final Semaphore writesInFlight;
+        private final Cache<ConceptId, ConceptImpl> identityMap;
+        private volatile boolean schemaModified = false;
+        private final long schemaCacheGeneration;
+        // The first error of a request whose response nobody waits for, such as a lazy open or a write-behind mutation
+        private volatile RuntimeException deferredError;
+
+        public static class Builder {
+
+            private ManagedChannel channel;
+            private GraknClient.Session session;
+            private String sessionId;
+            private int readAhead = 1;
+            private int maxBufferedResponses = Transceiver.DEFAULT_MAX_BUFFERED_RESPONSES;
+            private long maxBufferedBytes = Transceiver.DEFAULT_MAX_BUFFERED_BYTES;
+            private boolean threadSafe = false;
+            private boolean lazyOpen = false;
+            private boolean writeBehind = false;
+            private int maxInFlightWrites = DEFAULT_MAX_IN_FLIGHT_WRITES;
+            private int identityMapSize = 0;
+
+            public Builder(ManagedChannel channel, GraknClient.Session session, String sessionId) {
+                this.channel = channel;
+                this.session = session;
+                this.sessionId = sessionId;
+            }
+
+            /**
+             * Number of iterate requests each RPCIterator of the transaction keeps in flight on the stream.
+             * The default of 1 sends the next iterate request only once the previous answer has been consumed.
+             */
+            public Builder readAhead(int window) {
+                if (window < 1) {
+                    throw new IllegalArgumentException("Read-ahead window must be at least 1, was " + window);
+                }
+                this.readAhead = window;
+                return this;
+            }
+
+            /**
+             * Maximum number of responses the server may send ahead of the transaction consuming them.
+             */
+            public Builder maxBufferedResponses(int maxBufferedResponses) {
+                this.maxBufferedResponses = maxBufferedResponses;
+                return this;
+            }
+
+            /**
+             * Maximum serialized size of the responses buffered for the transaction before the server is asked to pause.
+             */
+            public Builder maxBufferedBytes(long maxBufferedBytes) {
+                this.maxBufferedBytes = maxBufferedBytes;
+                return this;
+            }
+
+            /**
+             * Allow the transaction, and the concepts and iterators it returns, to be used by several threads at once.
+             * Requests from all threads share the one stream, and each response is routed back to the thread that sent
+             * its request. Iterators and streams must still be consumed by one thread at a time.
+             */
+            public Builder threadSafe() {
+                this.threadSafe = true;
+                return this;
+            }
+
+            /**
+             * Send the open request without waiting for its response, so that it shares a round trip with the first
+             * request of the transaction. If the transaction fails to open, that first request throws the error.
+             */
+            public Builder lazyOpen() {
+                this.lazyOpen = true;
+                return this;
+            }
+
+            /**
+             * Send concept mutations whose response carries nothing but success, such as Thing#has(Attribute) or
+             * Type#plays(Role), without waiting for their response. A mutation which fails is thrown by the next request
+             * that waits for its response, at the latest by the commit.
+             * A mutation waits before it is sent while the stream has no room for it, or while
+             * DEFAULT_MAX_IN_FLIGHT_WRITES mutations are still waiting for their response.
+             */
+            public Builder writeBehind() {
+                return writeBehind(DEFAULT_MAX_IN_FLIGHT_WRITES);
+            }
+
+            /**
+             * Write behind, as #writeBehind(), with at most maxInFlightWrites mutations waiting for their response.
+             */
+            public Builder writeBehind(int maxInFlightWrites) {
+                if (maxInFlightWrites < 1) {
+                    throw new IllegalArgumentException("Maximum in-flight writes must be at least 1, was " + maxInFlightWrites);
+                }
+                this.writeBehind = true;
+                this.maxInFlightWrites = maxInFlightWrites;
+                return this;
+            }
+
+            /**
+             * Return the same concept object for every occurrence of a concept id in the transaction, for as long as
+             * the object is still in use elsewhere, keeping at most maxSize of them.
+             */
+            public Builder identityMap(int maxSize) {
+                if (maxSize < 1) {
+                    throw new IllegalArgumentException("Identity map size must be at least 1, was " + maxSize);
+                }
+                this.identityMapSize = maxSize;
+                return this;
+            }
+
+            public GraknClient.Transaction read() {
+                return new GraknClient.Transaction(this, Transaction.Type.READ);
+            }
+
+            public GraknClient.Transaction write() {
+                return new GraknClient.Transaction(this, Transaction.Type.WRITE);
+            }
+        }
+
+        public enum Type {
+            READ(0),  //Read only transaction where mutations to the graph are prohibited
+            WRITE(1); //Write transaction where the graph can be mutated
+
+            private final int type;
+
+            Type(int type) {
+                this.type = type;
+            }
+
+            public int id() {
+                return type;
+            }
+
+            @Override
+            public String toString() {
+                return this.name();
+            }
+
+            public static Type of(int value) {
+                for (Type t : Type.values()) {
+                    if (t.type == value) return t;
+                }
+                return null;
+            }
+
+            public static Type of(String value) {
+                for (Type t : Type.values()) {
+                    if (t.name().equalsIgnoreCase(value)) return t;
+                }
+                return null;
+            }
+        }
+
+        private Transaction(Builder builder, Type type) {
+            ConcurrencyLimiter limiter = builder.session.concurrencyLimiter;
+            if (limiter != null) limiter.acquire();
+            try {
+                this.transceiver = Transceiver.create(
+                        SessionServiceGrpc.newStub(builder.channel), builder.maxBufferedResponses, builder.maxBufferedBytes,
+                        builder.session.waitStrategy, limiter == null ? null : limiter::roundTrip
+                );
+            } catch (RuntimeException e) {
+                if (limiter != null) limiter.release();
+                throw e;
+            }
+            this.holdsLimiterSlot = new AtomicBoolean(limiter != null);
+            this.session = builder.session;
+            this.channel = builder.channel;
+            this.type = type;
+            this.readAhead = builder.readAhead;
+            this.maxBufferedResponses = builder.maxBufferedResponses;
+            this.threadSafe = builder.threadSafe;
+            this.writeBehind = builder.writeBehind;
+            this.writesInFlight = builder.writeBehind ? new Semaphore(builder.maxInFlightWrites) : null;
+            this.identityMap = builder.identityMapSize == 0 ? null : CacheBuilder.newBuilder()
+                    .maximumSize(builder.identityMapSize).weakValues().build();
+            SchemaCache schemaCache = session.schemaCache;
+            this.schemaCacheGeneration = schemaCache == null ? 0 : schemaCache.generation();
+            session.channels.opened(channel);
+            session.transactionOpened();
+            SessionProto.Transaction.Req open = RequestBuilder.Transaction.open(builder.sessionId, type);
+            if (builder.lazyOpen) {
+                deferErrors(requestAsync(open));
+                return;
+            }
+            try {
+                request(open);
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        public Type type() {
+            return type;
+        }
+
+        public GraknClient.Session session() {
+            return session;
+        }
+
+        public Keyspace keyspace() {
+            return session.keyspace();
+        }
+
+        public List<ConceptMap> execute(GraqlDefine query) {
+            return stream(query).collect(Collectors.toList());
+        }
+
+        public List<ConceptMap> execute(GraqlUndefine query) {
+            return stream(query).collect(Collectors.toList());
+        }
+
+        public List<ConceptMap> execute(GraqlInsert query, boolean infer) {
+            return stream(query, infer).collect(Collectors.toList());
+        }
+        public List<ConceptMap> execute(GraqlInsert query) {
+            return stream(query).collect(Collectors.toList());
+        }
+
+        public List<Void> execute(GraqlDelete query, boolean infer) {
+            return stream(query, infer).collect(Collectors.toList());
+        }
+        public List<Void> execute(GraqlDelete query) {
+            return stream(query).collect(Collectors.toList());
+        }
+
+        public List<ConceptMap> execute(GraqlGet query, boolean infer) {
+            return stream(query, infer).collect(Collectors.toList());
+        }
+        public List<ConceptMap> execute(GraqlGet query) {
+            return stream(query).collect(Collectors.toList());
+        }
+
+        public Stream<ConceptMap> stream(GraqlDefine query) {
+            Iterable<ConceptMap> iterable = () -> this.rpcIterator(query);
+            return StreamSupport.stream(iterable.spliterator(), false);
+        }
+
+        public Stream<ConceptMap> stream(GraqlUndefine query) {
+            Iterable<ConceptMap> iterable = () -> this.rpcIterator(query);
+            return StreamSupport.stream(iterable.spliterator(), false);
+        }
+
+        public Stream<ConceptMap> stream(GraqlInsert query, boolean infer) {
+            Iterable<ConceptMap> iterable = () -> this.rpcIterator(query, infer);
+            return StreamSupport.stream(iterable.spliterator(), false);
+        }
+        public Stream<ConceptMap> stream(GraqlInsert query) {
+            return stream(query, true);
+        }
+
+        public Stream<Void> stream(GraqlDelete query, boolean infer) {
+            Iterable<Void> iterable = () -> this.rpcIterator(query, infer);
+            return StreamSupport.stream(iterable.spliterator(), false);
+        }
+        public Stream<Void> stream(GraqlDelete query) {
+            return stream(query, true);
+        }
+
+        public Stream<ConceptMap> stream(GraqlGet query, boolean infer) {
+            Iterable<ConceptMap> iterable = () -> this.rpcIterator(query, infer);
             return StreamSupport.stream(iterable.spliterator(), false);
         }
         public Stream<ConceptMap> stream(GraqlGet query) {
             return stream(query, true);
         }
 
+        /**
+         * Publish the answers of the query as they are requested by a Subscriber, without blocking any thread.
+         * Each Subscriber runs the query again, and the demand it signals is turned into iterate requests, up to the
+         * transaction's response buffer limit in flight at a time.
+         *
+         * The Subscriber is called on the gRPC callback thread, which delivers the responses of the transaction, so it
+         * must not block: calling a concept method which sends a request, like Thing#type() or Attribute#value(),
+         * would wait forever for a response only that thread can deliver. Use publish(GraqlGet, boolean, Executor) to
+         * make such calls from the Subscriber.
+         */
+        public Publisher<ConceptMap> publish(GraqlGet query, boolean infer) {
+            return publish(query, infer, null);
+        }
+        public Publisher<ConceptMap> publish(GraqlGet query) {
+            return publish(query, true);
+        }
+
+        /**
+         * Publish the answers of the query, calling the Subscriber on the given executor rather than on the gRPC
+         * callback thread, so that it may make blocking calls on this transaction. The calls are still never
+         * concurrent, and a transaction which is not thread-safe must not be used by any other thread meanwhile.
+         */
+        public Publisher<ConceptMap> publish(GraqlGet query, boolean infer, @Nullable Executor executor) {
+            return new RPCPublisher<>(
+                    RequestBuilder.Transaction.query(query.toString(), infer),
+                    response -> (ConceptMap) ResponseReader.answer(response.getQueryIterRes().getAnswer(), this),
+                    executor
+            );
+        }
+
         // Aggregate Query
 
         public List<Numeric> execute(GraqlGet.Aggregate query) {
@@ -487,27 +1491,165 @@ public class GraknClient implements AutoCloseable {
             }
         }
 
-        private Iterator rpcIterator(GraqlQuery query) {
-            return rpcIterator(query, true);
+        public List<BatchResult> executeBatch(List<? extends GraqlQuery> queries) {
+            return executeBatch(queries, true);
         }
 
-        private Iterator rpcIterator(GraqlQuery query, boolean infer) {
-            transceiver.send(RequestBuilder.Transaction.query(query.toString(), infer));
-            SessionProto.Transaction.Res txResponse = responseOrThrow();
-            int iteratorId = txResponse.getQueryIter().getId();
-            return new RPCIterator<>(
-                    this,
-                    iteratorId,
-                    response -> ResponseReader.answer(response.getQueryIterRes().getAnswer(), this)
-            );
-        }
+        /**
+         * Execute independent queries together: all query requests are sent before any response is awaited, and then
+         * the answers of all queries are drained together, with up to the read-ahead window of iterate requests in
+         * flight for every query which still has answers. The batch takes about as many round trips as its longest
+         * query has answers, divided by the window, rather than the sum over all queries.
+         *
+         * Each query gets its own result, which holds either its answers or the error raised while reading them on
+         * the client. An error from the server is thrown instead, as the server closes the transaction on the first.
+         */
+        public List<BatchResult> executeBatch(List<? extends GraqlQuery> queries, boolean infer) {
+            List<BatchResult> results = new ArrayList<>(queries.size());
+            List<CompletableFuture<SessionProto.Transaction.Res>> queryResponses = new ArrayList<>(queries.size());
+            for (GraqlQuery query : queries) {
+                if (query instanceof GraqlDefine || query instanceof GraqlUndefine) schemaModified();
+                results.add(new BatchResult());
+                queryResponses.add(requestAsync(RequestBuilder.Transaction.query(query.toString(), infer)));
+            }
 
-        public void close() {
-            transceiver.close();
-        }
+            Map<Integer, Integer> iteratorIds = new LinkedHashMap<>();
+            for (int i = 0; i < queries.size(); i++) {
+                iteratorIds.put(i, await(queryResponses.get(i)).getQueryIter().getId());
+            }
 
-        public boolean isOpen() {
-            return transceiver.isOpen();
+            drainTogether(iteratorIds, (i, response) -> {
+                try {
+                    results.get(i).answers.add(ResponseReader.answer(response.getQueryIterRes().getAnswer(), this));
+                    return true;
+                } catch (RuntimeException e) {
+                    // The rest of the answers are left on the server, which drops the iterator with the transaction
+                    results.get(i).error = e;
+                    return false;
+                }
+            });
+            return results;
+        }
+
+        private <K> void drainTogether(Map<K, Integer> iteratorIds, BiPredicate<K, SessionProto.Transaction.Iter.Res> reader) {
+            drainTogether(iteratorIds, readAhead, reader);
+        }
+
+        /**
+         * Drain several server iterators together, keeping up to window iterate requests in flight for every iterator
+         * not yet done. Each round tops every iterator up to the window before reading the next answer of each, so that
+         * it takes about as many round trips as the longest has answers, divided by the window.
+         * The reader is given each answer, and returns false to stop reading its iterator.
+         */
+        <K> void drainTogether(Map<K, Integer> iteratorIds, int window, BiPredicate<K, SessionProto.Transaction.Iter.Res> reader) {
+            if (window < 1) {
+                throw new IllegalArgumentException("Read-ahead window must be at least 1, was " + window);
+            }
+            Map<K, Deque<CompletableFuture<SessionProto.Transaction.Res>>> pending = new LinkedHashMap<>();
+            for (K key : iteratorIds.keySet()) pending.put(key, new ArrayDeque<>(window));
+
+            while (!pending.isEmpty()) {
+                pending.forEach((key, iterateResponses) -> {
+                    while (iterateResponses.size() < window) {
+                        iterateResponses.add(requestAsync(RequestBuilder.Transaction.iterate(iteratorIds.get(key))));
+                    }
+                });
+
+                Iterator<Map.Entry<K, Deque<CompletableFuture<SessionProto.Transaction.Res>>>> entries = pending.entrySet().iterator();
+                while (entries.hasNext()) {
+                    Map.Entry<K, Deque<CompletableFuture<SessionProto.Transaction.Res>>> entry = entries.next();
+                    SessionProto.Transaction.Iter.Res response = await(entry.getValue().poll()).getIterateRes();
+                    if (response.getResCase() == SessionProto.Transaction.Iter.Res.ResCase.DONE
+                            || !reader.test(entry.getKey(), response)) {
+                        // Surplus iterate requests still in flight are answered, and their responses left unread
+                        entries.remove();
+                    }
+                }
+            }
+        }
+
+        /**
+         * The outcome of one query of a batch.
+         *
+         * @see Transaction#executeBatch(List, boolean)
+         */
+        public static class BatchResult {
+            private final List<Answer> answers = new ArrayList<>();
+            private RuntimeException error;
+
+            private BatchResult() {}
+
+            public boolean isSuccessful() {
+                return error == null;
+            }
+
+            /**
+             * @throws RuntimeException the error raised while reading the answers of the query, if any
+             */
+            public List<? extends Answer> answers() {
+                if (error != null) throw error;
+                return answers;
+            }
+
+            @Nullable
+            public RuntimeException error() {
+                return error;
+            }
+        }
+
+        private Iterator rpcIterator(GraqlQuery query) {
+            return rpcIterator(query, true);
+        }
+
+        private Iterator rpcIterator(GraqlQuery query, boolean infer) {
+            if (query instanceof GraqlDefine || query instanceof GraqlUndefine) schemaModified();
+            SessionProto.Transaction.Res txResponse = request(RequestBuilder.Transaction.query(query.toString(), infer));
+            int iteratorId = txResponse.getQueryIter().getId();
+            return new RPCIterator<>(
+                    this,
+                    iteratorId,
+                    response -> ResponseReader.answer(response.getQueryIterRes().getAnswer(), this)
+            );
+        }
+
+        /**
+         * Half-close the stream and return without waiting for the server to finish the transaction.
+         * Responses to requests already sent are still delivered.
+         */
+        public void close() {
+            transceiver.close();
+            if (!committing) release();
+        }
+
+        /**
+         * Give back the transaction's share of the channel, the session and the ConcurrencyLimiter, once.
+         */
+        private void release() {
+            if (closed.compareAndSet(false, true)) {
+                session.channels.closed(channel);
+                session.transactionClosed();
+                parkLimiterSlot();
+            }
+        }
+
+        /**
+         * Give the place of this transaction in the session's ConcurrencyLimiter back while it is not in use.
+         */
+        private void parkLimiterSlot() {
+            if (holdsLimiterSlot.compareAndSet(true, false)) session.concurrencyLimiter.release();
+        }
+
+        /**
+         * Take a place in the session's ConcurrencyLimiter again, waiting or failing as the limiter does when full.
+         */
+        private void unparkLimiterSlot() {
+            if (session.concurrencyLimiter == null || closed.get() || holdsLimiterSlot.get()) return;
+            session.concurrencyLimiter.acquire();
+            holdsLimiterSlot.set(true);
+        }
+
+        public boolean isOpen() {
+            return !committing && transceiver.isOpen();
         }
 
         // TODO remove - backwards compatibility
@@ -515,18 +1657,95 @@ public class GraknClient implements AutoCloseable {
             return !isOpen();
         }
 
+        /**
+         * Number of responses received for this transaction that have not been consumed yet.
+         */
+        public int bufferedResponses() {
+            return transceiver.bufferedResponses();
+        }
+
+        /**
+         * Send a request and block until its response is returned.
+         * A thread-safe transaction waits on a future of its own response, so that concurrent callers cannot take each
+         * other's responses.
+         */
+        private SessionProto.Transaction.Res request(SessionProto.Transaction.Req request) {
+            throwDeferredError();
+            if (threadSafe) {
+                return await(requestAsync(request));
+            }
+            transceiver.send(request);
+            return responseOrThrow();
+        }
+
         private SessionProto.Transaction.Res responseOrThrow() {
-            Transceiver.Response response;
+            while (!pendingResponses.isEmpty()) {
+                receivePending();
+            }
+            return responseOrThrow(receive());
+        }
+
+        /**
+         * Keep the error of a request whose response nobody waits for, and close the transaction, which the server has
+         * already closed. The error is thrown by the next request, rather than let it fail on the closed stream with a
+         * less helpful error.
+         */
+        private void deferErrors(CompletableFuture<SessionProto.Transaction.Res> response) {
+            response.whenComplete((ok, error) -> {
+                if (error == null) return;
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                if (deferredError == null) {
+                    deferredError = cause instanceof RuntimeException ? (RuntimeException) cause : new RuntimeException(cause);
+                }
+                close();
+            });
+        }
 
+        private void throwDeferredError() {
+            RuntimeException error = deferredError;
+            if (error != null) throw error;
+        }
+
+        private SessionProto.Transaction.Res await(CompletableFuture<SessionProto.Transaction.Res> response) {
             try {
-                response = transceiver.receive();
+                return response.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new RuntimeException(e.getCause());
+            }
+        }
+
+        /**
+         * Receive the next response owed to an earlier pipelined request and hand it to its owner.
+         * Errors are thrown straight away, as the server closes the stream on the first one.
+         */
+        private void receivePending() {
+            Consumer<SessionProto.Transaction.Res> owner = pendingResponses.poll();
+            Transceiver.Response response = receive();
+            if (response.type() != Transceiver.Response.Type.OK) {
+                pendingResponses.clear();
+                responseOrThrow(response);
+            }
+            owner.accept(response.ok());
+        }
+
+        private Transceiver.Response receive() {
+            try {
+                return transceiver.receive();
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 // This is called from classes like Transaction, that impl methods which do not throw InterruptedException
                 // Therefore, we have to wrap it in a RuntimeException.
                 throw new RuntimeException(e);
             }
+        }
 
+        private SessionProto.Transaction.Res responseOrThrow(Transceiver.Response response) {
             switch (response.type()) {
                 case OK:
                     return response.ok();
@@ -542,11 +1761,105 @@ public class GraknClient implements AutoCloseable {
         }
 
         public void commit() {
-            transceiver.send(RequestBuilder.Transaction.commit());
-            responseOrThrow();
+            request(RequestBuilder.Transaction.commit());
+            invalidateSchemaCache();
             close();
         }
 
+        /**
+         * Send the commit request and return straight away with a future of its outcome. The stream is half-closed as
+         * soon as the commit request is sent, so the caller can go on to open the next transaction while the server
+         * persists this one, but the transaction keeps its place in the channel, the session and the
+         * ConcurrencyLimiter until the commit is answered: a session closed meanwhile waits for it.
+         */
+        public CompletableFuture<java.lang.Void> commitAsync() {
+            committing = true;
+            CompletableFuture<SessionProto.Transaction.Res> response = requestAsync(RequestBuilder.Transaction.commit());
+            transceiver.close();
+            CompletableFuture<java.lang.Void> committed = waitable(response.thenApply(ok -> {
+                invalidateSchemaCache();
+                return null;
+            }));
+            committed.whenComplete((ok, error) -> release());
+            return committed;
+        }
+
+        /**
+         * A view of this transaction whose calls return as soon as their request is sent.
+         */
+        public AsyncTransaction async() {
+            return new AsyncTransaction(this);
+        }
+
+        /**
+         * Send a request and return a future of its response. Errors, including those of a closed transaction or of
+         * an earlier deferred request, complete the future exceptionally rather than being thrown.
+         */
+        private CompletableFuture<SessionProto.Transaction.Res> requestAsync(SessionProto.Transaction.Req request) {
+            RuntimeException error = deferredError;
+            if (error != null) {
+                CompletableFuture<SessionProto.Transaction.Res> failed = new CompletableFuture<>();
+                failed.completeExceptionally(error);
+                return failed;
+            }
+            return waitable(transceiver.sendAsync(request).thenApply(this::responseOrThrow));
+        }
+
+        /**
+         * Make a future of this transaction safe to wait on. A response to an earlier request which was sent without
+         * a future, such as a read-ahead iterate, comes before it on the stream and holds back the server's credit
+         * until it is consumed. A transaction which is not thread-safe therefore receives those responses on the
+         * waiting thread first, rather than wait forever for a response the server cannot send.
+         */
+        private <T> CompletableFuture<T> waitable(CompletableFuture<T> future) {
+            if (threadSafe) return future;
+            PendingAwareFuture<T> waitable = new PendingAwareFuture<>();
+            future.whenComplete((value, error) -> {
+                if (error == null) waitable.complete(value);
+                else waitable.completeExceptionally(error);
+            });
+            return waitable;
+        }
+
+        private class PendingAwareFuture<T> extends CompletableFuture<T> {
+
+            @Override
+            public T get() throws InterruptedException, ExecutionException {
+                try {
+                    receivePendingUntilDone();
+                } catch (RuntimeException e) {
+                    throw new ExecutionException(e);
+                }
+                return super.get();
+            }
+
+            @Override
+            public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+                try {
+                    receivePendingUntilDone();
+                } catch (RuntimeException e) {
+                    throw new ExecutionException(e);
+                }
+                return super.get(timeout, unit);
+            }
+
+            @Override
+            public T join() {
+                try {
+                    receivePendingUntilDone();
+                } catch (RuntimeException e) {
+                    throw new CompletionException(e);
+                }
+                return super.join();
+            }
+
+            private void receivePendingUntilDone() {
+                while (!isDone() && !pendingResponses.isEmpty()) {
+                    receivePending();
+                }
+            }
+        }
+
         @Nullable
         public <T extends grakn.client.concept.Type> T getType(Label label) {
             SchemaConcept concept = getSchemaConcept(label);
@@ -591,16 +1904,69 @@ public class GraknClient implements AutoCloseable {
 
         @Nullable
         public <T extends SchemaConcept> T getSchemaConcept(Label label) {
-            transceiver.send(RequestBuilder.Transaction.getSchemaConcept(label));
-            SessionProto.Transaction.Res response = responseOrThrow();
+            SchemaConcept cached = cachedSchemaConcept(label);
+            if (cached != null) return (T) cached;
+            return (T) schemaConcept(label, request(RequestBuilder.Transaction.getSchemaConcept(label)));
+        }
+
+        @Nullable
+        private SchemaConcept cachedSchemaConcept(Label label) {
+            SchemaCache schemaCache = schemaCache();
+            SchemaCache.Entry cached = schemaCache == null ? null : schemaCache.get(label);
+            return cached == null ? null : ConceptImpl.of(cached.concept(), this).asSchemaConcept();
+        }
+
+        /**
+         * Read the response to a schema concept lookup, adding the concept found to the schema cache.
+         */
+        @Nullable
+        private SchemaConcept schemaConcept(Label label, SessionProto.Transaction.Res response) {
             switch (response.getGetSchemaConceptRes().getResCase()) {
                 case NULL:
                     return null;
                 default:
-                    return (T) ConceptImpl.of(response.getGetSchemaConceptRes().getSchemaConcept(), this).asSchemaConcept();
+                    ConceptProto.Concept concept = response.getGetSchemaConceptRes().getSchemaConcept();
+                    SchemaCache schemaCache = schemaCache();
+                    if (schemaCache != null) schemaCache.put(label, concept, schemaCacheGeneration);
+                    return ConceptImpl.of(concept, this).asSchemaConcept();
             }
         }
 
+        /**
+         * The schema cache of the session, unless it has none, this transaction has changed the schema, or the cache
+         * has been cleared since this transaction was opened.
+         */
+        @Nullable
+        public SchemaCache schemaCache() {
+            SchemaCache schemaCache = session.schemaCache;
+            if (schemaModified || schemaCache == null || schemaCache.generation() != schemaCacheGeneration) return null;
+            return schemaCache;
+        }
+
+        /**
+         * The generation of the session's schema cache this transaction was opened in, which is the only one whose
+         * entries it may add.
+         *
+         * @see SchemaCache
+         */
+        public long schemaCacheGeneration() {
+            return schemaCacheGeneration;
+        }
+
+        /**
+         * Record that this transaction changed the schema, so that it stops using the schema cache of the session, and
+         * clears it on commit.
+         */
+        public void schemaModified() {
+            schemaModified = true;
+        }
+
+        private void invalidateSchemaCache() {
+            if (!schemaModified) return;
+            SchemaCache schemaCache = session.schemaCaches.get(session.keyspace);
+            if (schemaCache != null) schemaCache.invalidate();
+        }
+
         public grakn.client.concept.Type getMetaConcept() {
             return getSchemaConcept(Label.of(Graql.Token.Type.THING.toString()));
         }
@@ -627,8 +1993,7 @@ public class GraknClient implements AutoCloseable {
 
         @Nullable
         public <T extends Concept> T getConcept(ConceptId id) {
-            transceiver.send(RequestBuilder.Transaction.getConcept(id));
-            SessionProto.Transaction.Res response = responseOrThrow();
+            SessionProto.Transaction.Res response = request(RequestBuilder.Transaction.getConcept(id));
             switch (response.getGetConceptRes().getResCase()) {
                 case NULL:
                     return null;
@@ -637,9 +2002,155 @@ public class GraknClient implements AutoCloseable {
             }
         }
 
+        /**
+         * The concept with the id, which is created unless the identity map of the transaction already holds it.
+         */
+        public ConceptImpl concept(ConceptId id, Function<ConceptId, ConceptImpl> create) {
+            if (identityMap == null) return create.apply(id);
+            return identityMap.asMap().computeIfAbsent(id, create);
+        }
+
+        public Map<ConceptId, Concept> getConcepts(Collection<ConceptId> ids) {
+            return getConcepts(ids, DEFAULT_PIPELINE_WINDOW);
+        }
+
+        /**
+         * Look up concepts by id, keeping up to window requests in flight on the stream, so that the lookups take
+         * about one round trip per window rather than one per id. Ids of no concept are left out of the map.
+         * See test/benchmark/transaction:get-concepts-benchmark for a comparison with looking them up one by one.
+         */
+        public Map<ConceptId, Concept> getConcepts(Collection<ConceptId> ids, int window) {
+            Map<ConceptId, Concept> concepts = new LinkedHashMap<>();
+            Iterator<Concept> lookups = new PipelinedIterator<>(ids.iterator(), window, RequestBuilder.Transaction::getConcept,
+                    (id, response) -> {
+                        SessionProto.Transaction.GetConcept.Res getConceptRes = response.getGetConceptRes();
+                        if (getConceptRes.getResCase() == SessionProto.Transaction.GetConcept.Res.ResCase.NULL) return null;
+                        Concept concept = ConceptImpl.of(getConceptRes.getConcept(), this);
+                        concepts.put(id, concept);
+                        return concept;
+                    });
+            while (lookups.hasNext()) lookups.next();
+            return concepts;
+        }
+
+        public <C extends Concept, P> Stream<Map.Entry<C, P>> enrich(Stream<? extends C> concepts, ConceptProperty<? super C, P> property) {
+            return enrich(concepts, property, DEFAULT_PIPELINE_WINDOW);
+        }
+
+        /**
+         * Read a property of every concept of a stream, keeping up to window requests in flight, so that it takes about
+         * one round trip per window rather than one per concept. Each concept is yielded with its property, in the
+         * order of the stream, which is consumed lazily. The stream may itself come from this transaction.
+         */
+        public <C extends Concept, P> Stream<Map.Entry<C, P>> enrich(Stream<? extends C> concepts,
+                                                                     ConceptProperty<? super C, P> property, int window) {
+            Iterator<Map.Entry<C, P>> enriched = new PipelinedIterator<C, Map.Entry<C, P>>(
+                    concepts.iterator(), window, concept -> conceptMethod(concept.id(), property.method()),
+                    (concept, response) -> new AbstractMap.SimpleImmutableEntry<>(
+                            concept, property.read(response.getConceptMethodRes().getResponse(), this)
+                    ));
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(enriched, Spliterator.ORDERED), false)
+                    .onClose(concepts::close);
+        }
+
+        public Map<ConceptId, List<Map.Entry<Label, Object>>> attributesOf(Collection<? extends Thing> things,
+                                                                           AttributeType... attributeTypes) {
+            return attributesOf(things, DEFAULT_PIPELINE_WINDOW, attributeTypes);
+        }
+
+        /**
+         * Read the attributes of many things, each as the label of its type and its value, without one round trip per
+         * thing and attribute: the attribute iterators of all things are opened and drained together, and then the
+         * value and type of each distinct attribute, and the label of each distinct type, are read with up to window
+         * requests in flight. Every thing is in the map once, in the order given.
+         */
+        public Map<ConceptId, List<Map.Entry<Label, Object>>> attributesOf(Collection<? extends Thing> things, int window,
+                                                                           AttributeType... attributeTypes) {
+            ConceptProto.Method.Req method = ConceptProto.Method.Req.newBuilder()
+                    .setThingAttributesReq(ConceptProto.Thing.Attributes.Req.newBuilder()
+                                                   .addAllAttributeTypes(RequestBuilder.ConceptMessage.concepts(Arrays.asList(attributeTypes)))).build();
+
+            Map<ConceptId, Integer> iteratorIds = new LinkedHashMap<>();
+            new PipelinedIterator<Thing, Integer>(distinctById(things).iterator(), window, thing -> conceptMethod(thing.id(), method),
+                    (thing, response) -> iteratorIds.put(thing.id(), response.getConceptMethodRes().getResponse().getThingAttributesIter().getId())
+            ).forEachRemaining(iteratorId -> {});
+
+            Map<ConceptId, List<Attribute<?>>> attributes = new LinkedHashMap<>();
+            Map<ConceptId, Attribute<?>> distinctAttributes = new LinkedHashMap<>();
+            iteratorIds.keySet().forEach(thing -> attributes.put(thing, new ArrayList<>()));
+            drainTogether(iteratorIds, (thing, response) -> {
+                Attribute<?> attribute = ConceptImpl.of(
+                        response.getConceptMethodIterRes().getThingAttributesIterRes().getAttribute(), this
+                ).asAttribute();
+                attributes.get(thing).add(attribute);
+                distinctAttributes.putIfAbsent(attribute.id(), attribute);
+                return true;
+            });
+
+            Map<ConceptId, Object> values = new HashMap<>();
+            enrich(distinctAttributes.values().stream(), ConceptProperty.VALUE, window)
+                    .forEach(entry -> values.put(entry.getKey().id(), entry.getValue()));
+            Map<ConceptId, grakn.client.concept.Type> types = new HashMap<>();
+            enrich(distinctAttributes.values().stream(), ConceptProperty.TYPE, window)
+                    .forEach(entry -> types.put(entry.getKey().id(), entry.getValue()));
+            Map<grakn.client.concept.Type, Label> labels = new HashMap<>();
+            enrich(types.values().stream().distinct(), ConceptProperty.LABEL, window)
+                    .forEach(entry -> labels.put(entry.getKey(), entry.getValue()));
+
+            Map<ConceptId, List<Map.Entry<Label, Object>>> attributesOf = new LinkedHashMap<>();
+            attributes.forEach((thing, thingAttributes) -> attributesOf.put(thing, thingAttributes.stream()
+                    .map(attribute -> new AbstractMap.SimpleImmutableEntry<>(
+                            labels.get(types.get(attribute.id())), values.get(attribute.id())
+                    ))
+                    .collect(Collectors.toList())));
+            return attributesOf;
+        }
+
+        public Map<ConceptId, Map<Role, Set<Thing>>> rolePlayersOf(Collection<? extends Relation> relations) {
+            return rolePlayersOf(relations, DEFAULT_PIPELINE_WINDOW);
+        }
+
+        /**
+         * Read the role players of many relations, as Relation#rolePlayersMap() does for one, with their requests
+         * pipelined up to window at a time and their iterators drained together. Each role and player is created once
+         * and shared by all the relations it appears in. Every relation is in the map once, in the order given.
+         */
+        public Map<ConceptId, Map<Role, Set<Thing>>> rolePlayersOf(Collection<? extends Relation> relations, int window) {
+            ConceptProto.Method.Req method = ConceptProto.Method.Req.newBuilder()
+                    .setRelationRolePlayersMapReq(ConceptProto.Relation.RolePlayersMap.Req.getDefaultInstance()).build();
+
+            Map<ConceptId, Integer> iteratorIds = new LinkedHashMap<>();
+            new PipelinedIterator<Relation, Integer>(distinctById(relations).iterator(), window, relation -> conceptMethod(relation.id(), method),
+                    (relation, response) -> iteratorIds.put(relation.id(), response.getConceptMethodRes().getResponse().getRelationRolePlayersMapIter().getId())
+            ).forEachRemaining(iteratorId -> {});
+
+            Map<ConceptId, Map<Role, Set<Thing>>> rolePlayers = new LinkedHashMap<>();
+            Map<String, Role> roles = new HashMap<>();
+            Map<String, Thing> players = new HashMap<>();
+            iteratorIds.keySet().forEach(relation -> rolePlayers.put(relation, new HashMap<>(4)));
+            drainTogether(iteratorIds, (relation, response) -> {
+                ConceptProto.Relation.RolePlayersMap.Iter.Res rolePlayer =
+                        response.getConceptMethodIterRes().getRelationRolePlayersMapIterRes();
+                Role role = roles.computeIfAbsent(rolePlayer.getRole().getId(), id -> ConceptImpl.of(rolePlayer.getRole(), this).asRole());
+                Thing player = players.computeIfAbsent(rolePlayer.getPlayer().getId(), id -> ConceptImpl.of(rolePlayer.getPlayer(), this).asThing());
+                rolePlayers.get(relation).computeIfAbsent(role, r -> new HashSet<>(2)).add(player);
+                return true;
+            });
+            return rolePlayers;
+        }
+
+        /**
+         * The concepts in the order given, each only once, so that no iterator is opened for a concept whose answers
+         * would never be read.
+         */
+        private static <C extends Concept> List<C> distinctById(Collection<? extends C> concepts) {
+            Map<ConceptId, C> distinct = new LinkedHashMap<>();
+            for (C concept : concepts) distinct.putIfAbsent(concept.id(), concept);
+            return new ArrayList<>(distinct.values());
+        }
+
         public <V> Collection<Attribute<V>> getAttributesByValue(V value) {
-            transceiver.send(RequestBuilder.Transaction.getAttributes(value));
-            int iteratorId = responseOrThrow().getGetAttributesIter().getId();
+            int iteratorId = request(RequestBuilder.Transaction.getAttributes(value)).getGetAttributesIter().getId();
             Iterable<Attribute<V>> iterable = () -> new RPCIterator<Attribute<V>>(
                     this, iteratorId, response -> ConceptImpl.of(response.getGetAttributesIterRes().getAttribute(), this).asAttribute()
             );
@@ -654,40 +2165,40 @@ public class GraknClient implements AutoCloseable {
         }
 
         public EntityType putEntityType(Label label) {
-            transceiver.send(RequestBuilder.Transaction.putEntityType(label));
-            return ConceptImpl.of(responseOrThrow().getPutEntityTypeRes().getEntityType(), this).asEntityType();
+            schemaModified();
+            return ConceptImpl.of(request(RequestBuilder.Transaction.putEntityType(label)).getPutEntityTypeRes().getEntityType(), this).asEntityType();
         }
 
         public <V> AttributeType<V> putAttributeType(String label, AttributeType.DataType<V> dataType) {
             return putAttributeType(Label.of(label), dataType);
         }
         public <V> AttributeType<V> putAttributeType(Label label, AttributeType.DataType<V> dataType) {
-            transceiver.send(RequestBuilder.Transaction.putAttributeType(label, dataType));
-            return ConceptImpl.of(responseOrThrow().getPutAttributeTypeRes().getAttributeType(), this).asAttributeType();
+            schemaModified();
+            return ConceptImpl.of(request(RequestBuilder.Transaction.putAttributeType(label, dataType)).getPutAttributeTypeRes().getAttributeType(), this).asAttributeType();
         }
 
         public RelationType putRelationType(String label) {
             return putRelationType(Label.of(label));
         }
         public RelationType putRelationType(Label label) {
-            transceiver.send(RequestBuilder.Transaction.putRelationType(label));
-            return ConceptImpl.of(responseOrThrow().getPutRelationTypeRes().getRelationType(), this).asRelationType();
+            schemaModified();
+            return ConceptImpl.of(request(RequestBuilder.Transaction.putRelationType(label)).getPutRelationTypeRes().getRelationType(), this).asRelationType();
         }
 
         public Role putRole(String label) {
             return putRole(Label.of(label));
         }
         public Role putRole(Label label) {
-            transceiver.send(RequestBuilder.Transaction.putRole(label));
-            return ConceptImpl.of(responseOrThrow().getPutRoleRes().getRole(), this).asRole();
+            schemaModified();
+            return ConceptImpl.of(request(RequestBuilder.Transaction.putRole(label)).getPutRoleRes().getRole(), this).asRole();
         }
 
         public Rule putRule(String label, Pattern when, Pattern then) {
             return putRule(Label.of(label), when, then);
         }
         public Rule putRule(Label label, Pattern when, Pattern then) {
-            transceiver.send(RequestBuilder.Transaction.putRule(label, when, then));
-            return ConceptImpl.of(responseOrThrow().getPutRuleRes().getRule(), this).asRule();
+            schemaModified();
+            return ConceptImpl.of(request(RequestBuilder.Transaction.putRule(label, when, then)).getPutRuleRes().getRule(), this).asRule();
         }
 
         public Stream<SchemaConcept> sups(SchemaConcept schemaConcept) {
@@ -706,20 +2217,58 @@ public class GraknClient implements AutoCloseable {
         }
 
         public SessionProto.Transaction.Res runConceptMethod(ConceptId id, ConceptProto.Method.Req method) {
+            return request(conceptMethod(id, method));
+        }
+
+        /**
+         * Run a concept method whose response carries nothing but success. In a write-behind transaction, this returns
+         * as soon as the request is sent, and a failure is thrown by a later request.
+         */
+        public void runConceptMutation(ConceptId id, ConceptProto.Method.Req method) {
+            if (writeBehind) {
+                throwDeferredError();
+                awaitWriteCapacity();
+                CompletableFuture<SessionProto.Transaction.Res> response = requestAsync(conceptMethod(id, method));
+                response.whenComplete((ok, error) -> writesInFlight.release());
+                deferErrors(response);
+            } else {
+                request(conceptMethod(id, method));
+            }
+        }
+
+        /**
+         * Wait for a place among the write-behind mutations in flight, and for the stream to have room for one more.
+         * Meanwhile, responses owed to earlier pipelined requests are received, since the server may have no credit to
+         * answer the mutations in flight until they are.
+         */
+        private void awaitWriteCapacity() {
+            try {
+                while (!writesInFlight.tryAcquire()) {
+                    if (!threadSafe && !pendingResponses.isEmpty()) {
+                        receivePending();
+                    } else {
+                        writesInFlight.acquire();
+                        break;
+                    }
+                }
+                transceiver.awaitReady();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+
+        static SessionProto.Transaction.Req conceptMethod(ConceptId id, ConceptProto.Method.Req method) {
             SessionProto.Transaction.ConceptMethod.Req conceptMethod = SessionProto.Transaction.ConceptMethod.Req.newBuilder()
                     .setId(id.getValue()).setMethod(method).build();
-            SessionProto.Transaction.Req request = SessionProto.Transaction.Req.newBuilder().setConceptMethodReq(conceptMethod).build();
-
-            transceiver.send(request);
-            return responseOrThrow();
+            return SessionProto.Transaction.Req.newBuilder().setConceptMethodReq(conceptMethod).build();
         }
 
         public Explanation getExplanation(ConceptMap explainable) {
             AnswerProto.ConceptMap conceptMapProto = conceptMap(explainable);
             AnswerProto.Explanation.Req explanationReq = AnswerProto.Explanation.Req.newBuilder().setExplainable(conceptMapProto).build();
             SessionProto.Transaction.Req request = SessionProto.Transaction.Req.newBuilder().setExplanationReq(explanationReq).build();
-            transceiver.send(request);
-            SessionProto.Transaction.Res response = responseOrThrow();
+            SessionProto.Transaction.Res response = request(request);
             return ResponseReader.explanation(response.getExplanationRes(), this);
         }
 
@@ -735,17 +2284,62 @@ public class GraknClient implements AutoCloseable {
         }
 
         private SessionProto.Transaction.Iter.Res iterate(int iteratorId) {
-            transceiver.send(RequestBuilder.Transaction.iterate(iteratorId));
-            return responseOrThrow().getIterateRes();
+            return request(RequestBuilder.Transaction.iterate(iteratorId)).getIterateRes();
         }
 
         public <T> RPCIterator<T> iterator(int iteratorId, Function<SessionProto.Transaction.Iter.Res, T> responseReader) {
             return new RPCIterator<>(this, iteratorId, responseReader);
         }
 
+        /**
+         * An iterator which sends one request per input, keeping up to a window of them in flight ahead of the one
+         * being read, and yields what is read from each response in the order of the inputs.
+         * Inputs are only taken from their iterator as room opens in the window.
+         *
+         * @param <I> class type of the inputs
+         * @param <O> class type of objects being iterated
+         */
+        class PipelinedIterator<I, O> implements Iterator<O> {
+            private final Iterator<? extends I> inputs;
+            private final int window;
+            private final Function<I, SessionProto.Transaction.Req> request;
+            private final BiFunction<I, SessionProto.Transaction.Res, O> responseReader;
+            private final Deque<I> inFlightInputs = new ArrayDeque<>();
+            private final Deque<CompletableFuture<SessionProto.Transaction.Res>> inFlight = new ArrayDeque<>();
+
+            PipelinedIterator(Iterator<? extends I> inputs, int window, Function<I, SessionProto.Transaction.Req> request,
+                                      BiFunction<I, SessionProto.Transaction.Res, O> responseReader) {
+                if (window < 1) {
+                    throw new IllegalArgumentException("Pipeline window must be at least 1, was " + window);
+                }
+                this.inputs = inputs;
+                this.window = window;
+                this.request = request;
+                this.responseReader = responseReader;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !inFlight.isEmpty() || inputs.hasNext();
+            }
+
+            @Override
+            public O next() {
+                while (inFlight.size() < window && inputs.hasNext()) {
+                    I input = inputs.next();
+                    inFlight.add(requestAsync(request.apply(input)));
+                    inFlightInputs.add(input);
+                }
+                if (inFlight.isEmpty()) throw new NoSuchElementException();
+                return responseReader.apply(inFlightInputs.poll(), await(inFlight.poll()));
+            }
+        }
+
         /**
          * A client-side iterator over gRPC messages. Will send SessionProto.Transaction.Iter.Req messages until
          * SessionProto.Transaction.Iter.Res returns done as a message.
+         * When the transaction has a read-ahead window greater than 1, up to that many iterate requests are kept in
+         * flight, and any responses arriving after done are discarded.
          *
          * @param <T> class type of objects being iterated
          */
@@ -753,6 +2347,11 @@ public class GraknClient implements AutoCloseable {
             private final int iteratorId;
             private Transaction tx;
             private Function<SessionProto.Transaction.Iter.Res, T> responseReader;
+            private final Deque<SessionProto.Transaction.Iter.Res> readAheadBuffer = new ArrayDeque<>();
+            // Only used by thread-safe transactions, whose iterators wait on their own responses
+            private final Deque<CompletableFuture<SessionProto.Transaction.Res>> readAheadResponses = new ArrayDeque<>();
+            private int inFlight = 0;
+            private boolean done = false;
 
             private RPCIterator(Transaction tx, int iteratorId, Function<SessionProto.Transaction.Iter.Res, T> responseReader) {
                 this.tx = tx;
@@ -762,7 +2361,7 @@ public class GraknClient implements AutoCloseable {
 
 
             protected final T computeNext() {
-                SessionProto.Transaction.Iter.Res response = tx.iterate(iteratorId);
+                SessionProto.Transaction.Iter.Res response = tx.readAhead > 1 ? nextReadAhead() : tx.iterate(iteratorId);
 
                 switch (response.getResCase()) {
                     case DONE:
@@ -773,6 +2372,680 @@ public class GraknClient implements AutoCloseable {
                         return responseReader.apply(response);
                 }
             }
+
+            private SessionProto.Transaction.Iter.Res nextReadAhead() {
+                while (readAheadBuffer.isEmpty()) {
+                    while (!done && inFlight < tx.readAhead) {
+                        SessionProto.Transaction.Req iterate = RequestBuilder.Transaction.iterate(iteratorId);
+                        if (tx.threadSafe) {
+                            readAheadResponses.add(tx.requestAsync(iterate));
+                        } else {
+                            tx.transceiver.send(iterate);
+                            tx.pendingResponses.add(this::accept);
+                        }
+                        inFlight++;
+                    }
+                    if (tx.threadSafe) {
+                        accept(tx.await(readAheadResponses.poll()));
+                    } else {
+                        tx.receivePending();
+                    }
+                }
+                return readAheadBuffer.poll();
+            }
+
+            private void accept(SessionProto.Transaction.Res response) {
+                inFlight--;
+                if (done) return; // surplus response to an iterate request sent before done was seen
+
+                SessionProto.Transaction.Iter.Res iterRes = response.getIterateRes();
+                if (iterRes.getResCase() == SessionProto.Transaction.Iter.Res.ResCase.DONE) {
+                    done = true;
+                }
+                readAheadBuffer.add(iterRes);
+            }
+        }
+
+        /**
+         * A client-side publisher of gRPC messages. Sends the query when subscribed to, then one
+         * SessionProto.Transaction.Iter.Req per item requested, until SessionProto.Transaction.Iter.Res returns done.
+         * Responses are handled on the gRPC callback thread, strictly in the order their requests were sent. Signals to
+         * the subscriber are made on that thread too, unless an executor is given, in which case they are queued and
+         * run on the executor one at a time.
+         *
+         * @param <T> class type of objects being published
+         */
+        private class RPCPublisher<T> implements Publisher<T> {
+            private final SessionProto.Transaction.Req query;
+            private final Function<SessionProto.Transaction.Iter.Res, T> responseReader;
+            @Nullable
+            private final Executor executor;
+
+            private RPCPublisher(SessionProto.Transaction.Req query, Function<SessionProto.Transaction.Iter.Res, T> responseReader,
+                                 @Nullable Executor executor) {
+                this.query = query;
+                this.responseReader = responseReader;
+                this.executor = executor;
+            }
+
+            @Override
+            public void subscribe(Publisher.Subscriber<? super T> subscriber) {
+                RPCSubscription subscription = new RPCSubscription(subscriber);
+                subscriber.onSubscribe(subscription);
+                CompletableFuture<SessionProto.Transaction.Res> response;
+                try {
+                    response = requestAsync(query);
+                } catch (RuntimeException e) {
+                    subscription.fail(e); // a Publisher signals errors through onError, and never throws them
+                    return;
+                }
+                response.whenComplete((res, error) -> {
+                    if (error != null) {
+                        subscription.fail(error);
+                    } else {
+                        subscription.start(res.getQueryIter().getId());
+                    }
+                });
+            }
+
+            private class RPCSubscription implements Publisher.Subscription {
+                private final Publisher.Subscriber<? super T> subscriber;
+                private final Deque<CompletableFuture<SessionProto.Transaction.Res>> inFlight = new ArrayDeque<>();
+                private final Queue<Runnable> signals = new ConcurrentLinkedQueue<>();
+                private final AtomicInteger queuedSignals = new AtomicInteger();
+                private Integer iteratorId = null;
+                private long demand = 0;
+                private boolean finished = false;
+
+                private RPCSubscription(Publisher.Subscriber<? super T> subscriber) {
+                    this.subscriber = subscriber;
+                }
+
+                @Override
+                public synchronized void request(long n) {
+                    if (finished) return;
+                    if (n <= 0) {
+                        fail(new IllegalArgumentException("Requested " + n + " items, demand must be positive"));
+                        return;
+                    }
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                    fetch();
+                }
+
+                @Override
+                public synchronized void cancel() {
+                    finished = true;
+                }
+
+                private synchronized void start(int iteratorId) {
+                    this.iteratorId = iteratorId;
+                    fetch();
+                }
+
+                private void fetch() {
+                    while (iteratorId != null && !finished && inFlight.size() < Math.min(demand, maxBufferedResponses)) {
+                        CompletableFuture<SessionProto.Transaction.Res> response;
+                        try {
+                            response = requestAsync(RequestBuilder.Transaction.iterate(iteratorId));
+                        } catch (RuntimeException e) {
+                            fail(e);
+                            return;
+                        }
+                        inFlight.add(response);
+                        response.whenComplete((res, error) -> drain());
+                    }
+                }
+
+                // Futures are completed in order, but a completion may run its callback inline on the sending thread,
+                // so responses are only ever handed to the subscriber from the head of the in-flight queue
+                private synchronized void drain() {
+                    while (!inFlight.isEmpty() && inFlight.peek().isDone()) {
+                        CompletableFuture<SessionProto.Transaction.Res> response = inFlight.poll();
+                        if (finished) continue; // surplus response to an iterate request sent before done was seen
+
+                        try {
+                            SessionProto.Transaction.Iter.Res iterRes = response.join().getIterateRes();
+                            switch (iterRes.getResCase()) {
+                                case DONE:
+                                    finished = true;
+                                    signal(subscriber::onComplete);
+                                    break;
+                                case RES_NOT_SET:
+                                    throw GraknClientException.unreachableStatement("Unexpected " + iterRes);
+                                default:
+                                    demand--;
+                                    T item = responseReader.apply(iterRes);
+                                    signal(() -> subscriber.onNext(item));
+                            }
+                        } catch (RuntimeException e) {
+                            fail(e);
+                        }
+                    }
+                    fetch();
+                }
+
+                private synchronized void fail(Throwable error) {
+                    if (finished) return;
+                    finished = true;
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    signal(() -> subscriber.onError(cause));
+                }
+
+                /**
+                 * Make a call to the subscriber, straight away without an executor. With one, the call is queued, and
+                 * whichever thread queues the first of a run of calls hands the executor a task to make them in order.
+                 */
+                private void signal(Runnable signal) {
+                    if (executor == null) {
+                        signal.run();
+                        return;
+                    }
+                    signals.add(signal);
+                    if (queuedSignals.getAndIncrement() == 0) executor.execute(this::runSignals);
+                }
+
+                private void runSignals() {
+                    do {
+                        Runnable signal = signals.poll();
+                        try {
+                            signal.run();
+                        } catch (RuntimeException e) {
+                            fail(e);
+                        }
+                    } while (queuedSignals.decrementAndGet() > 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * A non-blocking view of a Transaction. Each call sends its request straight away and returns a CompletableFuture,
+     * which is completed on the gRPC callback thread once the response arrives. Requests are sent in the order the
+     * calls are made, on the same stream as the Transaction, and their futures are completed in that order.
+     * Errors complete the future exceptionally with a GraknClientException, and are never thrown by the call itself.
+     * The futures of a transaction which is not thread-safe must be waited on by the thread using the transaction,
+     * which receives any responses owed to its earlier read-ahead requests while it waits.
+     *
+     * Only the futures returned by this view do that. A future derived from them, by thenApply, thenCombine or
+     * CompletableFuture#allOf, is a plain CompletableFuture whose join() receives nothing, and can wait forever while
+     * an open read-ahead iterator holds back the server's credit. Wait on such futures through #allOf or #waitable:
+     * {@code
+     * tx.async().allOf(alice, bob).join();
+     * tx.async().waitable(alice.thenCombine(bob, Pair::new)).join();
+     * }
+     *
+     * @see Transaction#async()
+     */
+    public static class AsyncTransaction {
+
+        private final Transaction tx;
+
+        private AsyncTransaction(Transaction tx) {
+            this.tx = tx;
+        }
+
+        public Transaction sync() {
+            return tx;
+        }
+
+        public <T extends Concept> CompletableFuture<T> getConcept(ConceptId id) {
+            return request(RequestBuilder.Transaction.getConcept(id), response -> {
+                switch (response.getGetConceptRes().getResCase()) {
+                    case NULL:
+                        return null;
+                    default:
+                        return (T) ConceptImpl.of(response.getGetConceptRes().getConcept(), tx);
+                }
+            });
+        }
+
+        /**
+         * Look up a schema concept as Transaction#getSchemaConcept(Label) does, answering from the session's schema
+         * cache without a request when the concept is cached.
+         */
+        public <T extends SchemaConcept> CompletableFuture<T> getSchemaConcept(Label label) {
+            SchemaConcept cached = tx.cachedSchemaConcept(label);
+            if (cached != null) return CompletableFuture.completedFuture((T) cached);
+            return request(RequestBuilder.Transaction.getSchemaConcept(label), response -> (T) tx.schemaConcept(label, response));
+        }
+
+        public CompletableFuture<EntityType> putEntityType(Label label) {
+            tx.schemaModified();
+            return request(RequestBuilder.Transaction.putEntityType(label),
+                           response -> ConceptImpl.of(response.getPutEntityTypeRes().getEntityType(), tx).asEntityType());
+        }
+
+        public <V> CompletableFuture<AttributeType<V>> putAttributeType(Label label, AttributeType.DataType<V> dataType) {
+            tx.schemaModified();
+            return request(RequestBuilder.Transaction.putAttributeType(label, dataType),
+                           response -> ConceptImpl.of(response.getPutAttributeTypeRes().getAttributeType(), tx).asAttributeType());
+        }
+
+        public CompletableFuture<RelationType> putRelationType(Label label) {
+            tx.schemaModified();
+            return request(RequestBuilder.Transaction.putRelationType(label),
+                           response -> ConceptImpl.of(response.getPutRelationTypeRes().getRelationType(), tx).asRelationType());
+        }
+
+        public CompletableFuture<Role> putRole(Label label) {
+            tx.schemaModified();
+            return request(RequestBuilder.Transaction.putRole(label),
+                           response -> ConceptImpl.of(response.getPutRoleRes().getRole(), tx).asRole());
+        }
+
+        public CompletableFuture<Rule> putRule(Label label, Pattern when, Pattern then) {
+            tx.schemaModified();
+            return request(RequestBuilder.Transaction.putRule(label, when, then),
+                           response -> ConceptImpl.of(response.getPutRuleRes().getRule(), tx).asRule());
+        }
+
+        public CompletableFuture<SessionProto.Transaction.Res> runConceptMethod(ConceptId id, ConceptProto.Method.Req method) {
+            return tx.requestAsync(Transaction.conceptMethod(id, method));
+        }
+
+        private <T> CompletableFuture<T> request(SessionProto.Transaction.Req request, Function<SessionProto.Transaction.Res, T> reader) {
+            return tx.waitable(tx.requestAsync(request).thenApply(reader));
+        }
+
+        /**
+         * A future of the given future which, when waited on by the thread using a transaction which is not
+         * thread-safe, receives the responses owed to earlier read-ahead requests while it waits, like the futures
+         * returned by this view.
+         */
+        public <T> CompletableFuture<T> waitable(CompletableFuture<T> future) {
+            return tx.waitable(future);
+        }
+
+        /**
+         * CompletableFuture#allOf, made safe to wait on as #waitable does.
+         */
+        public CompletableFuture<java.lang.Void> allOf(CompletableFuture<?>... futures) {
+            return tx.waitable(CompletableFuture.allOf(futures));
+        }
+
+        public CompletableFuture<java.lang.Void> commit() {
+            return tx.commitAsync();
+        }
+    }
+
+    /**
+     * A client of several Grakn nodes serving the same keyspaces. Each node is reached through its own GraknClient,
+     * and has its own sessions, since session ids are only known to the node that opened them.
+     *
+     * WRITE transactions always go to the primary node. READ transactions are spread over the nodes that are up,
+     * choosing the node with the fewest open transactions, either of all nodes or of two picked at random. A node
+     * which refuses a connection is taken out of the rotation for a while, and its reads are retried on another node.
+     *
+     * @see ClusterSession
+     */
+    public static class Cluster implements AutoCloseable {
+
+        /**
+         * How the node of a READ transaction is chosen.
+         */
+        public enum Balancing {
+            LEAST_OUTSTANDING, // The node with the fewest open transactions
+            POWER_OF_TWO_CHOICES // The node with fewer open transactions of two picked at random
+        }
+
+        private final List<GraknClient> nodes;
+        private final long[] downUntil;
+        private int primary = 0;
+        private Balancing balancing = Balancing.POWER_OF_TWO_CHOICES;
+        private long downTimeNanos = TimeUnit.SECONDS.toNanos(5);
+        private HedgingPolicy hedging;
+        private ExecutorService hedgingExecutor;
+
+        public Cluster(List<GraknClient> nodes) {
+            if (nodes.isEmpty()) throw new IllegalArgumentException("A cluster needs at least one node");
+            this.nodes = ImmutableList.copyOf(nodes);
+            this.downUntil = new long[nodes.size()];
+        }
+
+        public static Cluster of(List<String> addresses) {
+            return new Cluster(addresses.stream().map(GraknClient::new).collect(Collectors.toList()));
+        }
+
+        /**
+         * Send WRITE transactions to the node at this index. Defaults to the first node.
+         */
+        public Cluster primary(int index) {
+            if (index < 0 || index >= nodes.size()) throw new IndexOutOfBoundsException("No node at index " + index);
+            this.primary = index;
+            return this;
+        }
+
+        public Cluster balancing(Balancing balancing) {
+            this.balancing = Objects.requireNonNull(balancing);
+            return this;
+        }
+
+        /**
+         * How long a node which refused a connection is left out before READ transactions are tried on it again.
+         */
+        public Cluster downTime(long time, TimeUnit unit) {
+            this.downTimeNanos = unit.toNanos(time);
+            return this;
+        }
+
+        /**
+         * Hedge reads made through ClusterSession#read(Function) with this policy.
+         */
+        public synchronized Cluster hedging(HedgingPolicy hedging) {
+            this.hedging = Objects.requireNonNull(hedging);
+            if (hedgingExecutor == null) {
+                hedgingExecutor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                        .setNameFormat("grakn-client-hedged-read-%d").setDaemon(true).build());
+            }
+            return this;
+        }
+
+        @Nullable
+        public HedgingPolicy hedging() {
+            return hedging;
+        }
+
+        public List<GraknClient> nodes() {
+            return nodes;
+        }
+
+        public ClusterSession session(String keyspace) {
+            return new ClusterSession(this, keyspace);
+        }
+
+        /**
+         * Number of open transactions on each node, in node order.
+         */
+        public int[] load() {
+            int[] load = new int[nodes.size()];
+            for (int i = 0; i < load.length; i++) {
+                load[i] = nodes.get(i).channels.openTransactions();
+            }
+            return load;
+        }
+
+        public synchronized boolean isUp(int node) {
+            return System.nanoTime() - downUntil[node] >= 0;
+        }
+
+        private synchronized void markDown(int node) {
+            downUntil[node] = System.nanoTime() + downTimeNanos;
+        }
+
+        private int selectForRead(Set<Integer> exclude) {
+            List<Integer> candidates = new ArrayList<>(nodes.size());
+            for (int i = 0; i < nodes.size(); i++) {
+                if (!exclude.contains(i) && isUp(i)) candidates.add(i);
+            }
+            if (candidates.isEmpty()) {
+                // Every node left is down, so try them anyway rather than fail without asking
+                for (int i = 0; i < nodes.size(); i++) {
+                    if (!exclude.contains(i)) candidates.add(i);
+                }
+            }
+            if (candidates.size() == 1) return candidates.get(0);
+
+            switch (balancing) {
+                case LEAST_OUTSTANDING:
+                    int leastLoaded = candidates.get(0);
+                    for (int node : candidates) {
+                        if (load(node) < load(leastLoaded)) leastLoaded = node;
+                    }
+                    return leastLoaded;
+                case POWER_OF_TWO_CHOICES:
+                default:
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    int first = random.nextInt(candidates.size());
+                    int second = random.nextInt(candidates.size() - 1);
+                    if (second >= first) second++;
+                    int a = candidates.get(first), b = candidates.get(second);
+                    return load(a) <= load(b) ? a : b;
+            }
+        }
+
+        private int load(int node) {
+            return nodes.get(node).channels.openTransactions();
+        }
+
+        private static boolean isUnavailable(RuntimeException e) {
+            if (e instanceof StatusRuntimeException) {
+                return ((StatusRuntimeException) e).getStatus().getCode() == Status.Code.UNAVAILABLE;
+            } else if (e instanceof GraknClientException) {
+                return Status.Code.UNAVAILABLE.name().equals(((GraknClientException) e).getStatusCode());
+            }
+            return false;
+        }
+
+        public void close() {
+            synchronized (this) {
+                if (hedgingExecutor != null) hedgingExecutor.shutdownNow();
+            }
+            nodes.forEach(GraknClient::close);
+        }
+    }
+
+    /**
+     * A session on a keyspace of every node of a Cluster. The session on each node is opened on its first transaction,
+     * bypassing the session cache of the node's client, and is closed with this session.
+     */
+    public static class ClusterSession implements AutoCloseable {
+
+        private final Cluster cluster;
+        private final String keyspace;
+        private final AtomicReferenceArray<Session> sessions;
+        // Held while opening or closing the session of each node, so that a slow node only holds up its own transactions
+        private final Object[] nodeLocks;
+        private volatile boolean isOpen = true;
+
+        private ClusterSession(Cluster cluster, String keyspace) {
+            this.cluster = cluster;
+            this.keyspace = keyspace;
+            this.sessions = new AtomicReferenceArray<>(cluster.nodes.size());
+            this.nodeLocks = new Object[cluster.nodes.size()];
+            for (int i = 0; i < nodeLocks.length; i++) nodeLocks[i] = new Object();
+        }
+
+        public GraknClient.Transaction transaction(Transaction.Type type) {
+            if (type == Transaction.Type.WRITE) return session(cluster.primary).transaction(type);
+            return read(new HashSet<>());
+        }
+
+        /**
+         * Open a READ transaction on a node not yet tried, adding every node tried to the set. The attempts of a
+         * hedged read share the set, so that each goes to a node the other has not taken.
+         */
+        private Transaction read(Set<Integer> tried) {
+            RuntimeException unavailable = null;
+            while (true) {
+                int node;
+                synchronized (tried) {
+                    if (tried.size() == sessions.length()) {
+                        if (unavailable != null) throw unavailable;
+                        throw GraknClientException.create("Every node of the cluster is already taken by this read");
+                    }
+                    node = cluster.selectForRead(tried);
+                    tried.add(node);
+                }
+                Session session = null;
+                try {
+                    session = session(node);
+                    return session.transaction(Transaction.Type.READ);
+                } catch (RuntimeException e) {
+                    if (!Cluster.isUnavailable(e)) throw e;
+                    cluster.markDown(node);
+                    if (session != null) discard(node, session);
+                    unavailable = e;
+                }
+            }
+        }
+
+        /**
+         * Run a read in a READ transaction which is closed when the read returns, so the read must not return
+         * anything that still needs the transaction, such as a lazy stream.
+         *
+         * If the cluster hedges reads and this one has not returned within the delay of the HedgingPolicy, the read
+         * is run again on another node. The first to return wins, and the transaction of the other is cancelled.
+         */
+        public <T> T read(Function<Transaction, T> read) {
+            HedgingPolicy hedging;
+            ExecutorService executor;
+            synchronized (cluster) {
+                hedging = cluster.hedging;
+                executor = cluster.hedgingExecutor;
+            }
+            if (hedging == null) {
+                try (Transaction tx = transaction(Transaction.Type.READ)) {
+                    return read.apply(tx);
+                }
+            }
+
+            hedging.read();
+            CompletableFuture<T> result = new CompletableFuture<>();
+            AtomicInteger running = new AtomicInteger(1);
+            Set<Integer> tried = new HashSet<>();
+            HedgedRead<T> first = new HedgedRead<>();
+            HedgedRead<T> hedge = null;
+            long start = System.nanoTime();
+            executor.execute(() -> first.run(this, read, tried, result, running));
+
+            try {
+                try {
+                    return result.get(hedging.delayNanos(), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    boolean untriedNode;
+                    synchronized (tried) {
+                        untriedNode = tried.size() < sessions.length();
+                    }
+                    if (sessions.length() > 1 && untriedNode && hedging.tryHedge()) {
+                        HedgedRead<T> second = hedge = new HedgedRead<>();
+                        running.incrementAndGet();
+                        executor.execute(() -> second.run(this, read, tried, result, running));
+                    }
+                    T value = result.get();
+                    if (hedge != null && hedge.won) hedging.hedgeWon();
+                    return value;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw GraknClientException.create("Interrupted while waiting for a read.");
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                throw new RuntimeException(cause);
+            } finally {
+                first.cancel();
+                if (hedge != null) hedge.cancel();
+                // A first attempt cut short by its hedge still ran this long, which is recorded as a lower bound of its
+                // latency, rather than leave the slowest reads out of the percentile
+                hedging.recordLatency((first.done.isDone() ? first.finishedAt : System.nanoTime()) - start);
+            }
+        }
+
+        /**
+         * One of the attempts of a hedged read, which can be cancelled by the reader from another thread.
+         */
+        private static class HedgedRead<T> {
+
+            private final CompletableFuture<java.lang.Void> done = new CompletableFuture<>();
+            private volatile long finishedAt;
+            private volatile boolean won = false;
+            private Transaction tx;
+            private boolean cancelled = false;
+
+            private void run(ClusterSession session, Function<Transaction, T> read, Set<Integer> tried,
+                             CompletableFuture<T> result, AtomicInteger running) {
+                try {
+                    Transaction tx = session.read(tried);
+                    if (!opened(tx)) return;
+                    T value;
+                    try {
+                        value = read.apply(tx);
+                    } finally {
+                        tx.close();
+                    }
+                    finishedAt = System.nanoTime();
+                    done.complete(null);
+                    won = result.complete(value);
+                } catch (RuntimeException e) {
+                    if (running.decrementAndGet() == 0) result.completeExceptionally(e);
+                }
+            }
+
+            private synchronized boolean opened(Transaction tx) {
+                if (cancelled) {
+                    tx.close();
+                    return false;
+                }
+                this.tx = tx;
+                return true;
+            }
+
+            private synchronized void cancel() {
+                if (cancelled) return;
+                cancelled = true;
+                if (tx != null && tx.transceiver.isOpen() && !done.isDone()) {
+                    tx.transceiver.cancel();
+                    tx.close();
+                }
+            }
+        }
+
+        /**
+         * The session on the node, opened on first use. Only the node's own lock is held while opening it, so opening
+         * a session on a slow node does not hold up transactions on the others.
+         */
+        private Session session(int node) {
+            if (!isOpen) throw GraknClientException.create("Session is closed");
+            Session session = sessions.get(node);
+            if (session != null && session.isOpen()) return session;
+
+            synchronized (nodeLocks[node]) {
+                session = sessions.get(node);
+                if (session == null || !session.isOpen()) {
+                    session = cluster.nodes.get(node).openSession(keyspace);
+                    sessions.set(node, session);
+                }
+            }
+            if (!isOpen) {
+                // Closed while opening, possibly after close() went past this node
+                closeSession(node);
+                throw GraknClientException.create("Session is closed");
+            }
+            return session;
+        }
+
+        /**
+         * Forget the session on the node, unless it has already been replaced by another.
+         */
+        private void discard(int node, Session session) {
+            sessions.compareAndSet(node, session, null);
+        }
+
+        public boolean isOpen() {
+            return isOpen;
+        }
+
+        public void close() {
+            if (!isOpen) return;
+            isOpen = false;
+            for (int i = 0; i < sessions.length(); i++) closeSession(i);
+        }
+
+        private void closeSession(int node) {
+            synchronized (nodeLocks[node]) {
+                Session session = sessions.getAndSet(node, null);
+                if (session != null && session.isOpen()) {
+                    try {
+                        session.close();
+                    } catch (StatusRuntimeException e) {
+                        if (!Cluster.isUnavailable(e)) throw e;
+                    }
+                }
+            }
+        }
+
+        public Keyspace keyspace() {
+            return Keyspace.of(keyspace);
         }
     }
 
@@ -0,0 +1,479 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import grakn.client.answer.Numeric;
+import grakn.client.concept.AttributeType;
+import grakn.client.concept.ConceptId;
+import grakn.client.concept.ConceptImpl;
+import grakn.client.concept.ConceptProperty;
+import grakn.client.concept.Label;
+import grakn.client.concept.SchemaConcept;
+import grakn.client.rpc.RequestBuilder;
+import grakn.protocol.session.ConceptProto;
+import graql.lang.Graql;
+import graql.lang.query.GraqlGet;
+
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * An immutable copy of the type hierarchy of a keyspace: every type and role with its super type, and the roles
+ * played, attributes, keys and related roles of each type, as the server returns them for SchemaConcept#sup(),
+ * Type#playing(), Type#attributes(), Type#keys() and RelationType#roles(). Nothing in it takes a round trip to read.
+ *
+ * #load(Transaction) reads the whole schema with its requests pipelined and its iterators drained together. Each
+ * property takes about as many round trips as the type with the most values of it has values, divided by the share
+ * of the window its iterator is given, rather than one round trip per value of every type. A snapshot can be written
+ * to a file with #write(Path) and read back with #read(Path), so that a restart only needs #isCurrent(Transaction)
+ * to check it still matches the keyspace. That check compares a fingerprint of the schema, the number of types,
+ * roles and abstract types, and of sub, plays, relates, has and key pairs between them, which the server answers with
+ * one batch of count queries.
+ * Rules are not part of the snapshot.
+ */
+public final class SchemaSnapshot {
+
+    private static final int MAGIC = 0x4752534e;
+    private static final int VERSION = 2;
+    private static final List<GraqlGet.Aggregate> FINGERPRINT_QUERIES = ImmutableList.of(
+            Graql.match(Graql.var("x").sub(Graql.Token.Type.THING.toString())).get().count(),
+            Graql.match(Graql.var("x").sub(Graql.Token.Type.ROLE.toString())).get().count(),
+            Graql.match(Graql.var("x").sub(Graql.var("y"))).get().count(),
+            Graql.match(Graql.var("x").plays(Graql.var("y"))).get().count(),
+            Graql.match(Graql.var("x").relates(Graql.var("y"))).get().count(),
+            Graql.match(Graql.var("x").has(Graql.var("y"))).get().count(),
+            Graql.match(Graql.var("x").key(Graql.var("y"))).get().count(),
+            Graql.match(Graql.var("x").isAbstract()).get().count()
+    );
+
+    private final Map<Label, Node> byLabel;
+    private final Map<ConceptId, Node> byId;
+    private final Map<Label, List<Label>> directSubs;
+    private final List<Long> fingerprint;
+
+    private SchemaSnapshot(List<Node> nodes, List<Long> fingerprint) {
+        ImmutableMap.Builder<Label, Node> byLabel = ImmutableMap.builder();
+        ImmutableMap.Builder<ConceptId, Node> byId = ImmutableMap.builder();
+        Map<Label, ImmutableList.Builder<Label>> directSubs = new LinkedHashMap<>();
+        for (Node node : nodes) {
+            byLabel.put(node.label, node);
+            byId.put(node.id, node);
+            if (node.sup != null) directSubs.computeIfAbsent(node.sup, sup -> ImmutableList.builder()).add(node.label);
+        }
+        this.byLabel = byLabel.build();
+        this.byId = byId.build();
+        ImmutableMap.Builder<Label, List<Label>> builtSubs = ImmutableMap.builder();
+        directSubs.forEach((sup, subs) -> builtSubs.put(sup, subs.build()));
+        this.directSubs = builtSubs.build();
+        this.fingerprint = ImmutableList.copyOf(fingerprint);
+    }
+
+    /**
+     * A type or role of the snapshot.
+     */
+    public static final class Node {
+        private final Label label;
+        private final ConceptId id;
+        private final ConceptProto.Concept.BASE_TYPE baseType;
+        private final Label sup;
+        private final boolean isAbstract;
+        private final ConceptProto.AttributeType.DATA_TYPE dataType;
+        private final List<Label> playing;
+        private final List<Label> attributes;
+        private final List<Label> keys;
+        private final List<Label> roles;
+
+        private Node(Label label, ConceptId id, ConceptProto.Concept.BASE_TYPE baseType, @Nullable Label sup,
+                     boolean isAbstract, @Nullable ConceptProto.AttributeType.DATA_TYPE dataType,
+                     List<Label> playing, List<Label> attributes, List<Label> keys, List<Label> roles) {
+            this.label = label;
+            this.id = id;
+            this.baseType = baseType;
+            this.sup = sup;
+            this.isAbstract = isAbstract;
+            this.dataType = dataType;
+            this.playing = playing;
+            this.attributes = attributes;
+            this.keys = keys;
+            this.roles = roles;
+        }
+
+        public Label label() {
+            return label;
+        }
+
+        public ConceptId id() {
+            return id;
+        }
+
+        public boolean isRole() {
+            return baseType == ConceptProto.Concept.BASE_TYPE.ROLE;
+        }
+
+        @Nullable
+        public Label sup() {
+            return sup;
+        }
+
+        public boolean isAbstract() {
+            return isAbstract;
+        }
+
+        @Nullable
+        public AttributeType.DataType<?> dataType() {
+            return dataType == null ? null : RequestBuilder.ConceptMessage.dataType(dataType);
+        }
+
+        public List<Label> playing() {
+            return playing;
+        }
+
+        public List<Label> attributes() {
+            return attributes;
+        }
+
+        public List<Label> keys() {
+            return keys;
+        }
+
+        public List<Label> roles() {
+            return roles;
+        }
+
+        /**
+         * The schema concept of this node in the transaction, created without a round trip. Only meaningful while
+         * the snapshot is current.
+         */
+        public SchemaConcept schemaConcept(GraknClient.Transaction tx) {
+            return ConceptImpl.of(concept(), tx).asSchemaConcept();
+        }
+
+        private ConceptProto.Concept concept() {
+            return ConceptProto.Concept.newBuilder().setId(id.getValue()).setBaseType(baseType).build();
+        }
+    }
+
+    @Nullable
+    public Node get(Label label) {
+        return byLabel.get(label);
+    }
+
+    @Nullable
+    public Node get(ConceptId id) {
+        return byId.get(id);
+    }
+
+    public Collection<Node> nodes() {
+        return byLabel.values();
+    }
+
+    /**
+     * The labels of the schema concept and its super types, as SchemaConcept#sups() returns them: itself first,
+     * then each super type in turn.
+     */
+    public List<Label> sups(Label label) {
+        List<Label> sups = new ArrayList<>();
+        for (Node node = byLabel.get(label); node != null; node = node.sup == null ? null : byLabel.get(node.sup)) {
+            sups.add(node.label);
+        }
+        return sups;
+    }
+
+    /**
+     * The labels of the schema concept and all its direct and indirect sub types, as SchemaConcept#subs() returns
+     * them, each after its super type.
+     */
+    public List<Label> subs(Label label) {
+        if (!byLabel.containsKey(label)) return ImmutableList.of();
+        List<Label> subs = new ArrayList<>();
+        subs.add(label);
+        for (int i = 0; i < subs.size(); i++) {
+            subs.addAll(directSubs.getOrDefault(subs.get(i), ImmutableList.of()));
+        }
+        return subs;
+    }
+
+    /**
+     * Whether the schema of the keyspace, as seen by the transaction, still has the fingerprint it had when the
+     * snapshot was loaded. The fingerprint counts concepts and edges, so it misses a change which keeps every
+     * count, such as a relabel, or one attribute of a type swapped for another.
+     */
+    public boolean isCurrent(GraknClient.Transaction tx) {
+        return fingerprint.equals(fingerprint(tx));
+    }
+
+    /**
+     * Put every concept of the snapshot, with its data type, in a schema cache.
+     */
+    public void populate(GraknClient.SchemaCache schemaCache) {
+        for (Node node : byLabel.values()) {
+            schemaCache.put(node.label, node.concept());
+            if (node.dataType != null) schemaCache.putDataType(node.id, node.dataType());
+        }
+    }
+
+    public static SchemaSnapshot load(GraknClient.Transaction tx) {
+        return load(tx, GraknClient.Transaction.DEFAULT_PIPELINE_WINDOW);
+    }
+
+    /**
+     * Load the schema through the transaction, with up to window requests in flight at a time. When several iterators
+     * are drained together, the window is shared out between them.
+     */
+    public static SchemaSnapshot load(GraknClient.Transaction tx, int window) {
+        List<Long> fingerprint = fingerprint(tx);
+
+        List<ConceptProto.Concept> metaConcepts = ImmutableList.of(
+                RequestBuilder.ConceptMessage.from(tx.getMetaConcept()), RequestBuilder.ConceptMessage.from(tx.getMetaRole())
+        );
+        Map<String, ConceptProto.Concept> concepts = new LinkedHashMap<>();
+        readIterators(tx, metaConcepts, window,
+                      method(builder -> builder.setSchemaConceptSubsReq(ConceptProto.SchemaConcept.Subs.Req.getDefaultInstance())),
+                      response -> response.getSchemaConceptSubsIter().getId(),
+                      response -> response.getSchemaConceptSubsIterRes().getSchemaConcept()
+        ).values().forEach(subs -> subs.forEach(concept -> concepts.putIfAbsent(concept.getId(), concept)));
+
+        List<ConceptProto.Concept> all = new ArrayList<>(concepts.values());
+        List<ConceptProto.Concept> types = all.stream()
+                .filter(concept -> concept.getBaseType() != ConceptProto.Concept.BASE_TYPE.ROLE).collect(Collectors.toList());
+        List<ConceptProto.Concept> attributeTypes = all.stream()
+                .filter(concept -> concept.getBaseType() == ConceptProto.Concept.BASE_TYPE.ATTRIBUTE_TYPE).collect(Collectors.toList());
+        List<ConceptProto.Concept> relationTypes = all.stream()
+                .filter(concept -> concept.getBaseType() == ConceptProto.Concept.BASE_TYPE.RELATION_TYPE).collect(Collectors.toList());
+
+        Map<String, Label> labels = read(tx, all, window, ConceptProperty.LABEL.method(),
+                response -> Label.of(response.getSchemaConceptGetLabelRes().getLabel()));
+        Map<String, String> sups = read(tx, all, window,
+                method(builder -> builder.setSchemaConceptGetSupReq(ConceptProto.SchemaConcept.GetSup.Req.getDefaultInstance())),
+                response -> {
+                    ConceptProto.SchemaConcept.GetSup.Res sup = response.getSchemaConceptGetSupRes();
+                    return sup.getResCase() == ConceptProto.SchemaConcept.GetSup.Res.ResCase.NULL ? null : sup.getSchemaConcept().getId();
+                });
+        Map<String, Boolean> isAbstract = read(tx, types, window,
+                method(builder -> builder.setTypeIsAbstractReq(ConceptProto.Type.IsAbstract.Req.getDefaultInstance())),
+                response -> response.getTypeIsAbstractRes().getAbstract());
+        Map<String, ConceptProto.AttributeType.DATA_TYPE> dataTypes = read(tx, attributeTypes, window,
+                method(builder -> builder.setAttributeTypeDataTypeReq(ConceptProto.AttributeType.DataType.Req.getDefaultInstance())),
+                response -> {
+                    ConceptProto.AttributeType.DataType.Res dataType = response.getAttributeTypeDataTypeRes();
+                    return dataType.getResCase() == ConceptProto.AttributeType.DataType.Res.ResCase.NULL ? null : dataType.getDataType();
+                });
+        Map<String, List<ConceptProto.Concept>> playing = readIterators(tx, types, window,
+                method(builder -> builder.setTypePlayingReq(ConceptProto.Type.Playing.Req.getDefaultInstance())),
+                response -> response.getTypePlayingIter().getId(),
+                response -> response.getTypePlayingIterRes().getRole());
+        Map<String, List<ConceptProto.Concept>> attributes = readIterators(tx, types, window,
+                method(builder -> builder.setTypeAttributesReq(ConceptProto.Type.Attributes.Req.getDefaultInstance())),
+                response -> response.getTypeAttributesIter().getId(),
+                response -> response.getTypeAttributesIterRes().getAttributeType());
+        Map<String, List<ConceptProto.Concept>> keys = readIterators(tx, types, window,
+                method(builder -> builder.setTypeKeysReq(ConceptProto.Type.Keys.Req.getDefaultInstance())),
+                response -> response.getTypeKeysIter().getId(),
+                response -> response.getTypeKeysIterRes().getAttributeType());
+        Map<String, List<ConceptProto.Concept>> roles = readIterators(tx, relationTypes, window,
+                method(builder -> builder.setRelationTypeRolesReq(ConceptProto.RelationType.Roles.Req.getDefaultInstance())),
+                response -> response.getRelationTypeRolesIter().getId(),
+                response -> response.getRelationTypeRolesIterRes().getRole());
+
+        List<Node> nodes = new ArrayList<>(all.size());
+        for (ConceptProto.Concept concept : all) {
+            String id = concept.getId();
+            nodes.add(new Node(
+                    labels.get(id), ConceptId.of(id), concept.getBaseType(), labels.get(sups.get(id)),
+                    Boolean.TRUE.equals(isAbstract.get(id)), dataTypes.get(id),
+                    labelsOf(playing.get(id), labels), labelsOf(attributes.get(id), labels),
+                    labelsOf(keys.get(id), labels), labelsOf(roles.get(id), labels)
+            ));
+        }
+        return new SchemaSnapshot(nodes, fingerprint);
+    }
+
+    /**
+     * Read the snapshot in the file if there is one and it is current, or else load the schema through the
+     * transaction and write it to the file for the next time.
+     */
+    public static SchemaSnapshot load(GraknClient.Transaction tx, Path file) throws IOException {
+        if (Files.exists(file)) {
+            try {
+                SchemaSnapshot snapshot = read(file);
+                if (snapshot.isCurrent(tx)) return snapshot;
+            } catch (IOException | RuntimeException e) {
+                // An unreadable or corrupt snapshot, such as one with a duplicate label, is replaced like a stale one
+            }
+        }
+        SchemaSnapshot snapshot = load(tx);
+        snapshot.write(file);
+        return snapshot;
+    }
+
+    /**
+     * Write the snapshot to the file, replacing it atomically. Labels are written once, and referred to by index.
+     */
+    public void write(Path file) throws IOException {
+        Path temporary = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(fingerprint.size());
+                for (long count : fingerprint) out.writeLong(count);
+
+                Map<Label, Integer> indices = new HashMap<>();
+                out.writeInt(byLabel.size());
+                for (Node node : byLabel.values()) {
+                    indices.put(node.label, indices.size());
+                    out.writeUTF(node.label.getValue());
+                    out.writeUTF(node.id.getValue());
+                    out.writeByte(node.baseType.getNumber());
+                }
+                for (Node node : byLabel.values()) {
+                    out.writeInt(node.sup == null ? -1 : indices.get(node.sup));
+                    out.writeBoolean(node.isAbstract);
+                    out.writeByte(node.dataType == null ? -1 : node.dataType.getNumber());
+                    for (List<Label> labels : Arrays.asList(node.playing, node.attributes, node.keys, node.roles)) {
+                        out.writeInt(labels.size());
+                        for (Label label : labels) out.writeInt(indices.get(label));
+                    }
+                }
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    public static SchemaSnapshot read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a schema snapshot of version " + VERSION + ": " + file);
+            }
+            int fingerprintSize = in.readInt();
+            List<Long> fingerprint = new ArrayList<>(fingerprintSize);
+            for (int i = 0; i < fingerprintSize; i++) fingerprint.add(in.readLong());
+
+            int size = in.readInt();
+            Label[] labels = new Label[size];
+            ConceptId[] ids = new ConceptId[size];
+            ConceptProto.Concept.BASE_TYPE[] baseTypes = new ConceptProto.Concept.BASE_TYPE[size];
+            for (int i = 0; i < size; i++) {
+                labels[i] = Label.of(in.readUTF());
+                ids[i] = ConceptId.of(in.readUTF());
+                baseTypes[i] = ConceptProto.Concept.BASE_TYPE.forNumber(in.readByte());
+                if (baseTypes[i] == null) throw new IOException("Corrupt schema snapshot: " + file);
+            }
+
+            List<Node> nodes = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                int sup = in.readInt();
+                boolean isAbstract = in.readBoolean();
+                byte dataType = in.readByte();
+                List<List<Label>> lists = new ArrayList<>(4);
+                for (int list = 0; list < 4; list++) {
+                    int listSize = in.readInt();
+                    ImmutableList.Builder<Label> builder = ImmutableList.builder();
+                    for (int j = 0; j < listSize; j++) builder.add(labelAt(labels, in.readInt(), file));
+                    lists.add(builder.build());
+                }
+                nodes.add(new Node(
+                        labels[i], ids[i], baseTypes[i], sup < 0 ? null : labelAt(labels, sup, file), isAbstract,
+                        dataType < 0 ? null : ConceptProto.AttributeType.DATA_TYPE.forNumber(dataType),
+                        lists.get(0), lists.get(1), lists.get(2), lists.get(3)
+                ));
+            }
+            return new SchemaSnapshot(nodes, fingerprint);
+        }
+    }
+
+    private static Label labelAt(Label[] labels, int index, Path file) throws IOException {
+        if (index < 0 || index >= labels.length) throw new IOException("Corrupt schema snapshot: " + file);
+        return labels[index];
+    }
+
+    private static List<Long> fingerprint(GraknClient.Transaction tx) {
+        return tx.executeBatch(FINGERPRINT_QUERIES, false).stream()
+                .map(result -> ((Numeric) result.answers().get(0)).number().longValue())
+                .collect(Collectors.toList());
+    }
+
+    private static ConceptProto.Method.Req method(Consumer<ConceptProto.Method.Req.Builder> setRequest) {
+        ConceptProto.Method.Req.Builder builder = ConceptProto.Method.Req.newBuilder();
+        setRequest.accept(builder);
+        return builder.build();
+    }
+
+    /**
+     * Run the method on each concept, with up to window requests in flight, and read each response by concept id.
+     */
+    private static <T> Map<String, T> read(GraknClient.Transaction tx, List<ConceptProto.Concept> concepts, int window,
+                                           ConceptProto.Method.Req method, Function<ConceptProto.Method.Res, T> reader) {
+        Map<String, T> values = new LinkedHashMap<>();
+        tx.new PipelinedIterator<ConceptProto.Concept, Void>(
+                concepts.iterator(), window, concept -> GraknClient.Transaction.conceptMethod(ConceptId.of(concept.getId()), method),
+                (concept, response) -> {
+                    values.put(concept.getId(), reader.apply(response.getConceptMethodRes().getResponse()));
+                    return null;
+                }
+        ).forEachRemaining(ignored -> {});
+        return values;
+    }
+
+    /**
+     * Run the method on each concept, as #read does, and drain all the iterators it opens together, each with an
+     * equal share of the window as its read-ahead.
+     */
+    private static Map<String, List<ConceptProto.Concept>> readIterators(
+            GraknClient.Transaction tx, List<ConceptProto.Concept> concepts, int window, ConceptProto.Method.Req method,
+            Function<ConceptProto.Method.Res, Integer> iteratorId, Function<ConceptProto.Method.Iter.Res, ConceptProto.Concept> reader) {
+        Map<String, Integer> iteratorIds = read(tx, concepts, window, method, iteratorId);
+        Map<String, List<ConceptProto.Concept>> results = new HashMap<>();
+        int readAhead = Math.max(1, window / Math.max(1, iteratorIds.size()));
+        tx.drainTogether(iteratorIds, readAhead, (id, response) -> {
+            results.computeIfAbsent(id, key -> new ArrayList<>()).add(reader.apply(response.getConceptMethodIterRes()));
+            return true;
+        });
+        return results;
+    }
+
+    private static List<Label> labelsOf(@Nullable List<ConceptProto.Concept> concepts, Map<String, Label> labels) {
+        if (concepts == null) return ImmutableList.of();
+        return ImmutableList.copyOf(concepts.stream().map(concept -> labels.get(concept.getId()))
+                                            .filter(Objects::nonNull).collect(Collectors.toList()));
+    }
+}
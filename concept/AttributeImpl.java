@@ -34,36 +34,47 @@ import java.util.stream.Stream;
  */
 public class AttributeImpl<D> extends ThingImpl<Attribute<D>, AttributeType<D>> implements Attribute<D> {
 
+    // The value of an attribute never changes, so it is only read from the server once
+    private volatile D value;
+
     AttributeImpl(GraknClient.Transaction tx, ConceptId id) {
         super(tx, id);
     }
 
     @Override
     public final D value() {
+        D value = this.value;
+        if (value != null) return value;
+
         ConceptProto.Method.Req method = ConceptProto.Method.Req.newBuilder()
                 .setAttributeValueReq(ConceptProto.Attribute.Value.Req.getDefaultInstance()).build();
 
-        ConceptProto.ValueObject value = runMethod(method).getAttributeValueRes().getValue();
-        return castValue(value);
+        value = castValue(runMethod(method).getAttributeValueRes().getValue());
+        this.value = value;
+        return value;
     }
 
     @SuppressWarnings("unchecked")
     private D castValue(ConceptProto.ValueObject value) {
+        return (D) valueOf(value);
+    }
+
+    static Object valueOf(ConceptProto.ValueObject value) {
         switch (value.getValueCase()) {
             case DATE:
-                return (D) LocalDateTime.ofInstant(Instant.ofEpochMilli(value.getDate()), ZoneId.of("Z"));
+                return LocalDateTime.ofInstant(Instant.ofEpochMilli(value.getDate()), ZoneId.of("Z"));
             case STRING:
-                return (D) value.getString();
+                return value.getString();
             case BOOLEAN:
-                return (D) (Boolean) value.getBoolean();
+                return value.getBoolean();
             case INTEGER:
-                return (D) (Integer) value.getInteger();
+                return value.getInteger();
             case LONG:
-                return (D) (Long) value.getLong();
+                return value.getLong();
             case FLOAT:
-                return (D) (Float) value.getFloat();
+                return value.getFloat();
             case DOUBLE:
-                return (D) (Double) value.getDouble();
+                return value.getDouble();
             case VALUE_NOT_SET:
                 return null;
             default:
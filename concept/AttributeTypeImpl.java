@@ -33,6 +33,9 @@ import javax.annotation.Nullable;
  */
 public class AttributeTypeImpl<D> extends TypeImpl<AttributeType<D>, Attribute<D>> implements AttributeType<D> {
 
+    // The data type of an attribute type never changes, so it is only read from the server once
+    private volatile AttributeType.DataType<D> dataType;
+
     AttributeTypeImpl(GraknClient.Transaction tx, ConceptId id) {
         super(tx, id);
     }
@@ -68,6 +71,15 @@ public class AttributeTypeImpl<D> extends TypeImpl<AttributeType<D>, Attribute<D
     @Override
     @Nullable
     public final AttributeType.DataType<D> dataType() {
+        if (dataType != null) return dataType;
+
+        GraknClient.SchemaCache schemaCache = tx().schemaCache();
+        GraknClient.SchemaCache.Entry cached = schemaCache == null ? null : schemaCache.get(id());
+        if (cached != null && cached.dataType() != null) {
+            dataType = (AttributeType.DataType<D>) cached.dataType();
+            return dataType;
+        }
+
         ConceptProto.Method.Req method = ConceptProto.Method.Req.newBuilder()
                 .setAttributeTypeDataTypeReq(ConceptProto.AttributeType.DataType.Req.getDefaultInstance()).build();
 
@@ -76,7 +88,10 @@ public class AttributeTypeImpl<D> extends TypeImpl<AttributeType<D>, Attribute<D
             case NULL:
                 return null;
             case DATATYPE:
-                return (AttributeType.DataType<D>) RequestBuilder.ConceptMessage.dataType(response.getDataType());
+                AttributeType.DataType<D> dataType = (AttributeType.DataType<D>) RequestBuilder.ConceptMessage.dataType(response.getDataType());
+                if (schemaCache != null) schemaCache.putDataType(id(), dataType, tx().schemaCacheGeneration());
+                this.dataType = dataType;
+                return dataType;
             default:
                 throw GraknClientException.unreachableStatement("Unexpected response " + response);
         }
@@ -99,7 +114,7 @@ public class AttributeTypeImpl<D> extends TypeImpl<AttributeType<D>, Attribute<D
                 .setAttributeTypeSetRegexReq(ConceptProto.AttributeType.SetRegex.Req.newBuilder()
                                                      .setRegex(regex)).build();
 
-        runMethod(method);
+        runMutation(method);
         return asCurrentBaseType(this);
     }
 
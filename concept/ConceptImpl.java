@@ -48,9 +48,11 @@ public abstract class ConceptImpl<SomeConcept extends Concept> implements Concep
     }
 
     public static ConceptImpl of(ConceptProto.Concept concept, GraknClient.Transaction tx) {
-        ConceptId id = ConceptId.of(concept.getId());
+        return tx.concept(ConceptId.of(concept.getId()), id -> of(concept.getBaseType(), id, tx));
+    }
 
-        switch (concept.getBaseType()) {
+    private static ConceptImpl of(ConceptProto.Concept.BASE_TYPE baseType, ConceptId id, GraknClient.Transaction tx) {
+        switch (baseType) {
             case ENTITY:
                 return new EntityImpl(tx, id);
             case RELATION:
@@ -71,7 +73,7 @@ public abstract class ConceptImpl<SomeConcept extends Concept> implements Concep
                 return new MetaType(tx, id);
             default:
             case UNRECOGNIZED:
-                throw new IllegalArgumentException("Unrecognised " + concept);
+                throw new IllegalArgumentException("Unrecognised " + baseType + " of concept " + id);
         }
     }
 
@@ -87,7 +89,8 @@ public abstract class ConceptImpl<SomeConcept extends Concept> implements Concep
                 .setConceptDeleteReq(ConceptProto.Concept.Delete.Req.getDefaultInstance())
                 .build();
 
-        runMethod(method);
+        if (isSchemaConcept()) tx().schemaModified();
+        runMutation(method);
     }
 
     @Override
@@ -145,4 +148,11 @@ public abstract class ConceptImpl<SomeConcept extends Concept> implements Concep
         return tx().runConceptMethod(id, method).getConceptMethodRes().getResponse();
     }
 
+    /**
+     * Run a method whose response carries nothing but its success, which a write-behind transaction checks later.
+     */
+    protected final void runMutation(ConceptProto.Method.Req method) {
+        tx().runConceptMutation(id(), method);
+    }
+
 }
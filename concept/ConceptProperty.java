@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.concept;
+
+import grakn.client.GraknClient;
+import grakn.protocol.session.ConceptProto;
+
+import java.util.function.BiFunction;
+
+/**
+ * A property of a concept which is read with a single concept method, so that it can be read for many concepts at
+ * once with GraknClient.Transaction#enrich.
+ *
+ * @param <C> the class of concepts which have the property
+ * @param <P> the class of the property
+ */
+public final class ConceptProperty<C extends Concept, P> {
+
+    public static final ConceptProperty<Attribute<?>, Object> VALUE = new ConceptProperty<>(
+            ConceptProto.Method.Req.newBuilder()
+                    .setAttributeValueReq(ConceptProto.Attribute.Value.Req.getDefaultInstance()).build(),
+            (response, tx) -> AttributeImpl.valueOf(response.getAttributeValueRes().getValue())
+    );
+
+    public static final ConceptProperty<Thing, Type> TYPE = new ConceptProperty<>(
+            ConceptProto.Method.Req.newBuilder()
+                    .setThingTypeReq(ConceptProto.Thing.Type.Req.getDefaultInstance()).build(),
+            (response, tx) -> ConceptImpl.of(response.getThingTypeRes().getType(), tx).asType()
+    );
+
+    public static final ConceptProperty<Thing, Boolean> IS_INFERRED = new ConceptProperty<>(
+            ConceptProto.Method.Req.newBuilder()
+                    .setThingIsInferredReq(ConceptProto.Thing.IsInferred.Req.getDefaultInstance()).build(),
+            (response, tx) -> response.getThingIsInferredRes().getInferred()
+    );
+
+    public static final ConceptProperty<SchemaConcept, Label> LABEL = new ConceptProperty<>(
+            ConceptProto.Method.Req.newBuilder()
+                    .setSchemaConceptGetLabelReq(ConceptProto.SchemaConcept.GetLabel.Req.getDefaultInstance()).build(),
+            (response, tx) -> Label.of(response.getSchemaConceptGetLabelRes().getLabel())
+    );
+
+    private final ConceptProto.Method.Req method;
+    private final BiFunction<ConceptProto.Method.Res, GraknClient.Transaction, P> responseReader;
+
+    private ConceptProperty(ConceptProto.Method.Req method,
+                            BiFunction<ConceptProto.Method.Res, GraknClient.Transaction, P> responseReader) {
+        this.method = method;
+        this.responseReader = responseReader;
+    }
+
+    /**
+     * The concept method which reads the property.
+     */
+    public ConceptProto.Method.Req method() {
+        return method;
+    }
+
+    /**
+     * Read the property from the response to #method().
+     */
+    public P read(ConceptProto.Method.Res response, GraknClient.Transaction tx) {
+        return responseReader.apply(response, tx);
+    }
+}
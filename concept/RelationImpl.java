@@ -81,7 +81,7 @@ public class RelationImpl extends ThingImpl<Relation, RelationType> implements R
                         .setRole(RequestBuilder.ConceptMessage.from(role))
                         .setPlayer(RequestBuilder.ConceptMessage.from(player))).build();
 
-        runMethod(method);
+        runMutation(method);
         return asCurrentBaseType(this);
     }
 
@@ -92,7 +92,7 @@ public class RelationImpl extends ThingImpl<Relation, RelationType> implements R
                         .setRole(RequestBuilder.ConceptMessage.from(role))
                         .setPlayer(RequestBuilder.ConceptMessage.from(player))).build();
 
-        runMethod(method);
+        runMutation(method);
     }
 
     @Override
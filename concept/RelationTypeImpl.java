@@ -59,7 +59,7 @@ public class RelationTypeImpl extends TypeImpl<RelationType, Relation> implement
                 .setRelationTypeRelatesReq(ConceptProto.RelationType.Relates.Req.newBuilder()
                                                    .setRole(RequestBuilder.ConceptMessage.from(role))).build();
 
-        runMethod(method);
+        runMutation(method);
         return asCurrentBaseType(this);
     }
 
@@ -69,7 +69,7 @@ public class RelationTypeImpl extends TypeImpl<RelationType, Relation> implement
                 .setRelationTypeUnrelateReq(ConceptProto.RelationType.Unrelate.Req.newBuilder()
                                                     .setRole(RequestBuilder.ConceptMessage.from(role))).build();
 
-        runMethod(method);
+        runMutation(method);
         return asCurrentBaseType(this);
     }
 
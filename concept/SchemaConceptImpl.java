@@ -34,6 +34,9 @@ import java.util.stream.Stream;
  */
 public abstract class SchemaConceptImpl<SomeSchemaConcept extends SchemaConcept> extends ConceptImpl<SomeSchemaConcept> implements SchemaConcept {
 
+    // Only memoised in READ transactions, where no object can relabel the concept
+    private volatile Label label;
+
     SchemaConceptImpl(GraknClient.Transaction tx, ConceptId id) {
         super(tx, id);
     }
@@ -43,16 +46,30 @@ public abstract class SchemaConceptImpl<SomeSchemaConcept extends SchemaConcept>
                 .setSchemaConceptSetSupReq(ConceptProto.SchemaConcept.SetSup.Req.newBuilder()
                                                    .setSchemaConcept(RequestBuilder.ConceptMessage.from(type))).build();
 
-        runMethod(method);
+        runMutation(method);
         return asCurrentBaseType(this);
     }
 
     @Override
     public final Label label() {
+        Label label = this.label;
+        if (label != null) return label;
+
+        boolean memoise = tx().type() == GraknClient.Transaction.Type.READ;
+        GraknClient.SchemaCache schemaCache = tx().schemaCache();
+        GraknClient.SchemaCache.Entry cached = schemaCache == null ? null : schemaCache.get(id());
+        if (cached != null) {
+            if (memoise) this.label = cached.label();
+            return cached.label();
+        }
+
         ConceptProto.Method.Req method = ConceptProto.Method.Req.newBuilder()
                 .setSchemaConceptGetLabelReq(ConceptProto.SchemaConcept.GetLabel.Req.getDefaultInstance()).build();
 
-        return Label.of(runMethod(method).getSchemaConceptGetLabelRes().getLabel());
+        label = Label.of(runMethod(method).getSchemaConceptGetLabelRes().getLabel());
+        if (schemaCache != null) schemaCache.put(label, this, tx().schemaCacheGeneration());
+        if (memoise) this.label = label;
+        return label;
     }
 
     @Override
@@ -69,7 +86,8 @@ public abstract class SchemaConceptImpl<SomeSchemaConcept extends SchemaConcept>
                 .setSchemaConceptSetLabelReq(ConceptProto.SchemaConcept.SetLabel.Req.newBuilder()
                                                      .setLabel(label.getValue())).build();
 
-        runMethod(method);
+        tx().schemaModified();
+        runMutation(method);
         return asCurrentBaseType(this);
     }
 
@@ -34,17 +34,25 @@ import java.util.stream.Stream;
  */
 public abstract class ThingImpl<SomeThing extends Thing, SomeType extends Type> extends ConceptImpl<SomeThing> implements Thing {
 
+    // The type of a thing never changes, so it is only read from the server once
+    private volatile SomeType type;
+
     ThingImpl(GraknClient.Transaction tx, ConceptId id) {
         super(tx, id);
     }
 
     @Override
     public final SomeType type() {
+        SomeType type = this.type;
+        if (type != null) return type;
+
         ConceptProto.Method.Req method = ConceptProto.Method.Req.newBuilder()
                 .setThingTypeReq(ConceptProto.Thing.Type.Req.getDefaultInstance()).build();
 
         ConceptImpl concept = ConceptImpl.of(runMethod(method).getThingTypeRes().getType(), tx());
-        return asCurrentType(concept);
+        type = asCurrentType(concept);
+        this.type = type;
+        return type;
     }
 
     @Override
@@ -96,7 +104,7 @@ public abstract class ThingImpl<SomeThing extends Thing, SomeType extends Type>
 
     @Override
     public final SomeThing has(Attribute attribute) {
-        relhas(attribute);
+        runMutation(relhasMethod(attribute));
         return asCurrentBaseType(this);
     }
 
@@ -104,12 +112,14 @@ public abstract class ThingImpl<SomeThing extends Thing, SomeType extends Type>
     public final Relation relhas(Attribute attribute) {
         // TODO: replace usage of this method as a getter, with relations(Attribute attribute)
         // TODO: then remove this method altogether and just use has(Attribute attribute)
-        ConceptProto.Method.Req method = ConceptProto.Method.Req.newBuilder()
+        ConceptImpl concept = ConceptImpl.of(runMethod(relhasMethod(attribute)).getThingRelhasRes().getRelation(), tx());
+        return concept.asRelation();
+    }
+
+    private static ConceptProto.Method.Req relhasMethod(Attribute attribute) {
+        return ConceptProto.Method.Req.newBuilder()
                 .setThingRelhasReq(ConceptProto.Thing.Relhas.Req.newBuilder()
                                            .setAttribute(RequestBuilder.ConceptMessage.from(attribute))).build();
-
-        ConceptImpl concept = ConceptImpl.of(runMethod(method).getThingRelhasRes().getRelation(), tx());
-        return concept.asRelation();
     }
 
     @Override
@@ -118,7 +128,7 @@ public abstract class ThingImpl<SomeThing extends Thing, SomeType extends Type>
                 .setThingUnhasReq(ConceptProto.Thing.Unhas.Req.newBuilder()
                                           .setAttribute(RequestBuilder.ConceptMessage.from(attribute))).build();
 
-        runMethod(method);
+        runMutation(method);
         return asCurrentBaseType(this);
     }
 
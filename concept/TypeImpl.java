@@ -60,7 +60,7 @@ public abstract class TypeImpl<SomeType extends Type, SomeThing extends Thing> e
                 .setTypeSetAbstractReq(ConceptProto.Type.SetAbstract.Req.newBuilder()
                                                .setAbstract(isAbstract)).build();
 
-        runMethod(method);
+        runMutation(method);
         return asCurrentBaseType(this);
     }
 
@@ -97,7 +97,7 @@ public abstract class TypeImpl<SomeType extends Type, SomeThing extends Thing> e
                 .setTypeKeyReq(ConceptProto.Type.Key.Req.newBuilder()
                                        .setAttributeType(RequestBuilder.ConceptMessage.from(attributeType))).build();
 
-        runMethod(method);
+        runMutation(method);
         return asCurrentBaseType(this);
     }
 
@@ -107,7 +107,7 @@ public abstract class TypeImpl<SomeType extends Type, SomeThing extends Thing> e
                 .setTypeHasReq(ConceptProto.Type.Has.Req.newBuilder()
                                        .setAttributeType(RequestBuilder.ConceptMessage.from(attributeType))).build();
 
-        runMethod(method);
+        runMutation(method);
         return asCurrentBaseType(this);
     }
 
@@ -117,7 +117,7 @@ public abstract class TypeImpl<SomeType extends Type, SomeThing extends Thing> e
                 .setTypePlaysReq(ConceptProto.Type.Plays.Req.newBuilder()
                                          .setRole(RequestBuilder.ConceptMessage.from(role))).build();
 
-        runMethod(method);
+        runMutation(method);
         return asCurrentBaseType(this);
     }
 
@@ -127,7 +127,7 @@ public abstract class TypeImpl<SomeType extends Type, SomeThing extends Thing> e
                 .setTypeUnkeyReq(ConceptProto.Type.Unkey.Req.newBuilder()
                                          .setAttributeType(RequestBuilder.ConceptMessage.from(attributeType))).build();
 
-        runMethod(method);
+        runMutation(method);
         return asCurrentBaseType(this);
     }
 
@@ -137,7 +137,7 @@ public abstract class TypeImpl<SomeType extends Type, SomeThing extends Thing> e
                 .setTypeUnhasReq(ConceptProto.Type.Unhas.Req.newBuilder()
                                          .setAttributeType(RequestBuilder.ConceptMessage.from(attributeType))).build();
 
-        runMethod(method);
+        runMutation(method);
         return asCurrentBaseType(this);
     }
 
@@ -147,7 +147,7 @@ public abstract class TypeImpl<SomeType extends Type, SomeThing extends Thing> e
                 .setTypeUnplayReq(ConceptProto.Type.Unplay.Req.newBuilder()
                                           .setRole(RequestBuilder.ConceptMessage.from(role))).build();
 
-        runMethod(method);
+        runMutation(method);
         return asCurrentBaseType(this);
     }
 
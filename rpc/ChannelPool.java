@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import io.grpc.ManagedChannel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A fixed set of channels to the same server, each with its own HTTP/2 connection. Transactions are pinned to the
+ * channel selected when they are opened, so that many concurrent transactions are spread over several connections
+ * (and event loops) instead of sharing the stream limit and flow control of one.
+ */
+public class ChannelPool {
+
+    /**
+     * How the channel of a new transaction is chosen.
+     */
+    public enum Selection {
+        ROUND_ROBIN, // Each channel in turn
+        LEAST_LOADED // The channel with the fewest open transactions
+    }
+
+    private final List<ManagedChannel> channels;
+    private final List<AtomicInteger> openTransactions;
+    private final Selection selection;
+    private final AtomicInteger next = new AtomicInteger(0);
+
+    private ChannelPool(List<ManagedChannel> channels, Selection selection) {
+        this.channels = Collections.unmodifiableList(channels);
+        this.selection = selection;
+        this.openTransactions = new ArrayList<>(channels.size());
+        for (int i = 0; i < channels.size(); i++) {
+            openTransactions.add(new AtomicInteger(0));
+        }
+    }
+
+    public static ChannelPool of(ManagedChannel channel) {
+        return new ChannelPool(Collections.singletonList(channel), Selection.ROUND_ROBIN);
+    }
+
+    public static ChannelPool create(Supplier<ManagedChannel> channelFactory, int size, Selection selection) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Channel pool size must be at least 1, was " + size);
+        }
+        List<ManagedChannel> channels = new ArrayList<>(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                channels.add(channelFactory.get());
+            }
+        } catch (RuntimeException e) {
+            channels.forEach(ManagedChannel::shutdownNow);
+            throw e;
+        }
+        return new ChannelPool(channels, selection);
+    }
+
+    /**
+     * The channel used for calls that are not part of a transaction, such as opening sessions.
+     */
+    public ManagedChannel primary() {
+        return channels.get(0);
+    }
+
+    public List<ManagedChannel> channels() {
+        return channels;
+    }
+
+    /**
+     * Choose the channel for a new transaction.
+     */
+    public ManagedChannel select() {
+        if (channels.size() == 1) return channels.get(0);
+
+        switch (selection) {
+            case LEAST_LOADED:
+                int leastLoaded = 0;
+                for (int i = 1; i < channels.size(); i++) {
+                    if (openTransactions.get(i).get() < openTransactions.get(leastLoaded).get()) leastLoaded = i;
+                }
+                return channels.get(leastLoaded);
+            case ROUND_ROBIN:
+            default:
+                return channels.get(Math.floorMod(next.getAndIncrement(), channels.size()));
+        }
+    }
+
+    /**
+     * Record that a transaction was opened on the channel. Channels which are not part of the pool are ignored.
+     */
+    public void opened(ManagedChannel channel) {
+        int index = channels.indexOf(channel);
+        if (index >= 0) openTransactions.get(index).incrementAndGet();
+    }
+
+    /**
+     * Record that a transaction on the channel was closed.
+     */
+    public void closed(ManagedChannel channel) {
+        int index = channels.indexOf(channel);
+        if (index >= 0) openTransactions.get(index).decrementAndGet();
+    }
+
+    /**
+     * Number of open transactions on each channel, in pool order.
+     */
+    public int[] load() {
+        int[] load = new int[channels.size()];
+        for (int i = 0; i < load.length; i++) {
+            load[i] = openTransactions.get(i).get();
+        }
+        return load;
+    }
+
+    /**
+     * Number of open transactions over all channels.
+     */
+    public int openTransactions() {
+        return openTransactions.stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    public void shutdown() {
+        channels.forEach(ManagedChannel::shutdown);
+    }
+
+    public boolean isShutdown() {
+        return channels.stream().allMatch(ManagedChannel::isShutdown);
+    }
+
+    public boolean isTerminated() {
+        return channels.stream().allMatch(ManagedChannel::isTerminated);
+    }
+
+    public void awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ManagedChannel channel : channels) {
+            channel.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import grakn.client.exception.GraknClientException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits how many transactions are open at once, adapting the limit to the round trip times of their requests with
+ * additive increase and multiplicative decrease (AIMD).
+ *
+ * Round trip times are averaged over windows of at least limit requests, and each average is compared to the
+ * smallest round trip recently seen. While the average stays within a tolerance of it and the limit is in use, the
+ * limit grows by one per window. When the average is slower, the server is taken to be queueing work, and the limit is
+ * cut by the backoff ratio. A single slow round trip, such as one held up by garbage collection, is not enough.
+ *
+ * A transaction opened beyond the limit either waits for another to close, for up to the maximum wait, or is
+ * rejected straight away.
+ */
+public class ConcurrencyLimiter {
+
+    /**
+     * What happens to a transaction opened when the limit is reached.
+     */
+    public enum Overflow {
+        QUEUE, // Wait for a transaction to close, up to the maximum wait
+        REJECT // Fail straight away
+    }
+
+    private static final int MIN_RTT_WINDOW = 1000;
+    private static final int MIN_SAMPLE_WINDOW = 20;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private double limit;
+    private double tolerance = 2.0;
+    private double backoff = 0.9;
+    private Overflow overflow = Overflow.QUEUE;
+    private long maxWaitNanos = TimeUnit.SECONDS.toNanos(30);
+
+    private int inFlight = 0;
+    private int queueLength = 0;
+    private long minRtt = Long.MAX_VALUE;
+    private long windowMinRtt = Long.MAX_VALUE;
+    private int windowSamples = 0;
+    private long sampleSum = 0;
+    private int samples = 0;
+
+    private ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    public static ConcurrencyLimiter aimd(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= initial <= max");
+        }
+        return new ConcurrencyLimiter(initialLimit, minLimit, maxLimit);
+    }
+
+    /**
+     * Treat an average round trip slower than this multiple of the smallest recent round trip as a sign of overload.
+     */
+    public synchronized ConcurrencyLimiter tolerance(double tolerance) {
+        if (tolerance < 1) throw new IllegalArgumentException("Tolerance must be at least 1, was " + tolerance);
+        this.tolerance = tolerance;
+        return this;
+    }
+
+    /**
+     * The ratio the limit is multiplied by on overload.
+     */
+    public synchronized ConcurrencyLimiter backoff(double backoff) {
+        if (backoff <= 0 || backoff >= 1) throw new IllegalArgumentException("Backoff must be between 0 and 1, was " + backoff);
+        this.backoff = backoff;
+        return this;
+    }
+
+    public synchronized ConcurrencyLimiter overflow(Overflow overflow, long maxWait, TimeUnit unit) {
+        this.overflow = overflow;
+        this.maxWaitNanos = unit.toNanos(maxWait);
+        return this;
+    }
+
+    /**
+     * Take a place under the limit, waiting for one if the overflow policy allows.
+     *
+     * @throws GraknClientException if the limit is reached and no place was freed in time
+     */
+    public synchronized void acquire() {
+        if (inFlight < limit()) {
+            inFlight++;
+            return;
+        }
+        if (overflow == Overflow.REJECT) throw limitReached();
+
+        long deadline = System.nanoTime() + maxWaitNanos;
+        queueLength++;
+        try {
+            while (inFlight >= limit()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) throw limitReached();
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            inFlight++;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw GraknClientException.create("Interrupted while waiting under the concurrency limit.");
+        } finally {
+            queueLength--;
+        }
+    }
+
+    public synchronized void release() {
+        inFlight--;
+        notify();
+    }
+
+    /**
+     * Adapt the limit to the round trip time of a request.
+     */
+    public synchronized void roundTrip(long nanos) {
+        windowMinRtt = Math.min(windowMinRtt, nanos);
+        minRtt = Math.min(minRtt, nanos);
+        // Start afresh every window, so the baseline follows the server when it gets lastingly slower or faster
+        if (++windowSamples >= MIN_RTT_WINDOW) {
+            minRtt = windowMinRtt;
+            windowMinRtt = Long.MAX_VALUE;
+            windowSamples = 0;
+        }
+
+        sampleSum += nanos;
+        if (++samples < Math.max(MIN_SAMPLE_WINDOW, limit)) return;
+        double averageRtt = (double) sampleSum / samples;
+        sampleSum = 0;
+        samples = 0;
+
+        int before = limit();
+        if (averageRtt > tolerance * minRtt) {
+            limit = Math.max(minLimit, limit * backoff);
+        } else if (inFlight >= limit / 2) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+        if (limit() > before) notifyAll();
+    }
+
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Number of transactions waiting for a place under the limit.
+     */
+    public synchronized int queueLength() {
+        return queueLength;
+    }
+
+    private GraknClientException limitReached() {
+        return GraknClientException.create("Concurrency limit of " + limit() + " open transactions reached.");
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides when a read is hedged: a duplicate of it is sent elsewhere when it takes longer than a percentile of the
+ * latencies of recent reads, as long as no more than a maximum share of reads have been hedged.
+ *
+ * The latency percentile is taken over a ring of the most recent samples, and is recomputed every tenth of the ring.
+ * Until enough samples are recorded, the minimum delay is used.
+ */
+public class HedgingPolicy {
+
+    private static final int SAMPLES = 1000;
+
+    private final double percentile;
+    private final double maxHedgeRate;
+    private long minDelayNanos = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final long[] samples = new long[SAMPLES];
+    private int sampleCount = 0;
+    private int nextSample = 0;
+    private int samplesSinceRecompute = 0;
+    private volatile long delayNanos = -1;
+
+    private final AtomicLong reads = new AtomicLong(0);
+    private final AtomicLong hedges = new AtomicLong(0);
+    private final AtomicLong hedgeWins = new AtomicLong(0);
+
+    private HedgingPolicy(double percentile, double maxHedgeRate) {
+        this.percentile = percentile;
+        this.maxHedgeRate = maxHedgeRate;
+    }
+
+    /**
+     * @param percentile   the percentile of recent latencies after which a read is hedged, e.g. 0.95
+     * @param maxHedgeRate the largest share of reads which may be hedged, e.g. 0.05
+     */
+    public static HedgingPolicy create(double percentile, double maxHedgeRate) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("Hedging percentile must be between 0 and 1, was " + percentile);
+        }
+        if (maxHedgeRate < 0 || maxHedgeRate > 1) {
+            throw new IllegalArgumentException("Maximum hedge rate must be between 0 and 1, was " + maxHedgeRate);
+        }
+        return new HedgingPolicy(percentile, maxHedgeRate);
+    }
+
+    /**
+     * Never hedge a read sooner than this, however fast recent reads were.
+     */
+    public HedgingPolicy minDelay(long delay, TimeUnit unit) {
+        this.minDelayNanos = unit.toNanos(delay);
+        return this;
+    }
+
+    /**
+     * How long to wait for a read before hedging it.
+     */
+    public long delayNanos() {
+        long delay = delayNanos;
+        return Math.max(delay < 0 ? minDelayNanos : delay, minDelayNanos);
+    }
+
+    /**
+     * Record the latency of a read. For a read cut short by its hedge, this is how long it ran before it was cancelled,
+     * which is a lower bound of its latency.
+     */
+    public synchronized void recordLatency(long nanos) {
+        samples[nextSample] = nanos;
+        nextSample = (nextSample + 1) % SAMPLES;
+        if (sampleCount < SAMPLES) sampleCount++;
+
+        if (++samplesSinceRecompute >= SAMPLES / 10) {
+            samplesSinceRecompute = 0;
+            long[] sorted = Arrays.copyOf(samples, sampleCount);
+            Arrays.sort(sorted);
+            delayNanos = sorted[Math.min(sampleCount - 1, (int) (percentile * sampleCount))];
+        }
+    }
+
+    /**
+     * Record that a read started.
+     */
+    public void read() {
+        reads.incrementAndGet();
+    }
+
+    /**
+     * Ask to hedge a read which has waited for #delayNanos(). Returns false if that would hedge too many reads.
+     */
+    public boolean tryHedge() {
+        while (true) {
+            long current = hedges.get();
+            if (current + 1 > maxHedgeRate * reads.get()) return false;
+            if (hedges.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    /**
+     * Record that a hedge answered before the read it duplicated.
+     */
+    public void hedgeWon() {
+        hedgeWins.incrementAndGet();
+    }
+
+    public long reads() {
+        return reads.get();
+    }
+
+    public long hedges() {
+        return hedges.get();
+    }
+
+    public long hedgeWins() {
+        return hedgeWins.get();
+    }
+
+    /**
+     * The share of reads which were hedged.
+     */
+    public double hedgeRate() {
+        long reads = this.reads.get();
+        return reads == 0 ? 0 : (double) hedges.get() / reads;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+/**
+ * A source of items pushed to a Subscriber as the Subscriber asks for them.
+ * The contract is the one of org.reactivestreams.Publisher and java.util.concurrent.Flow.Publisher (which is not
+ * available on Java 8), so adapting to either is a matter of forwarding each method.
+ *
+ * @param <T> class type of the items published
+ */
+@FunctionalInterface
+public interface Publisher<T> {
+
+    /**
+     * Start pushing items to the given Subscriber. Nothing is pushed before the Subscriber asks for it through
+     * Subscription#request(long).
+     */
+    void subscribe(Subscriber<? super T> subscriber);
+
+    /**
+     * Receives the items of a Publisher. Calls to a Subscriber are never concurrent.
+     */
+    interface Subscriber<T> {
+
+        void onSubscribe(Subscription subscription);
+
+        void onNext(T item);
+
+        void onError(Throwable throwable);
+
+        void onComplete();
+    }
+
+    /**
+     * The link between a Publisher and one of its Subscribers, through which the Subscriber signals demand.
+     */
+    interface Subscription {
+
+        /**
+         * Ask for up to n more items. Demand adds up, and Long.MAX_VALUE means unbounded.
+         */
+        void request(long n);
+
+        /**
+         * Stop receiving items. Items already requested from the server are discarded.
+         */
+        void cancel();
+    }
+}
@@ -24,12 +24,20 @@ import grakn.protocol.session.SessionProto;
 import grakn.protocol.session.SessionProto.Transaction;
 import grakn.protocol.session.SessionServiceGrpc;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import io.grpc.stub.StreamObserver;
 
 import javax.annotation.Nullable;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 
 /**
@@ -45,9 +53,18 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * StatusRuntimeException validationError = tx.receive.error();
  * }
  * }
+ * Requests sent with #sendAsync(Transaction.Req) are answered through a CompletableFuture instead, completed on the
+ * gRPC callback thread. Every request takes its place in one ordered queue, so responses reach their callers in the
+ * order the requests were sent, whichever way they were sent.
+ * Inbound flow control is manual: the server may only send as many responses as the consumer has room for, as bounded
+ * by a maximum number of buffered responses and a maximum number of buffered bytes.
+ * Outbound flow control is up to the sender: #awaitReady() waits for the transport to have room for another request.
  */
 public class Transceiver implements AutoCloseable {
 
+    public static final int DEFAULT_MAX_BUFFERED_RESPONSES = 1000;
+    public static final long DEFAULT_MAX_BUFFERED_BYTES = Long.MAX_VALUE;
+
     private final StreamObserver<Transaction.Req> requestSender;
     private final ResponseListener responseListener;
 
@@ -57,8 +74,27 @@ public class Transceiver implements AutoCloseable {
     }
 
     public static Transceiver create(SessionServiceGrpc.SessionServiceStub stub) {
-        ResponseListener responseListener = new ResponseListener();
+        return create(stub, DEFAULT_MAX_BUFFERED_RESPONSES, DEFAULT_MAX_BUFFERED_BYTES, WaitStrategy.blocking());
+    }
+
+    public static Transceiver create(SessionServiceGrpc.SessionServiceStub stub, int maxBufferedResponses,
+                                     long maxBufferedBytes, WaitStrategy waitStrategy) {
+        return create(stub, maxBufferedResponses, maxBufferedBytes, waitStrategy, null);
+    }
+
+    /**
+     * @param roundTrips if not null, is given the time in nanoseconds between sending each request and receiving its
+     *                   response, on the gRPC callback thread. Responses which may have been held back for want of
+     *                   credit are left out.
+     */
+    public static Transceiver create(SessionServiceGrpc.SessionServiceStub stub, int maxBufferedResponses,
+                                     long maxBufferedBytes, WaitStrategy waitStrategy, @Nullable LongConsumer roundTrips) {
+        if (maxBufferedResponses < 1 || maxBufferedBytes < 1) {
+            throw new IllegalArgumentException("Response buffer limits must be positive");
+        }
+        ResponseListener responseListener = new ResponseListener(maxBufferedBytes, waitStrategy, roundTrips);
         StreamObserver<Transaction.Req> requestSender = stub.transaction(responseListener);
+        responseListener.requestResponses(maxBufferedResponses);
         return new Transceiver(requestSender, responseListener);
     }
 
@@ -67,10 +103,43 @@ public class Transceiver implements AutoCloseable {
          * This method is non-blocking - it returns immediately.
      */
     public void send(Transaction.Req request) {
-        if (responseListener.terminated.get()) {
-            throw GraknClientException.connectionClosed();
+        send(request, responseListener.receiveSlot);
+    }
+
+    /**
+     * Send a request and return a future of its response, which is completed on the gRPC callback thread.
+     * This method is non-blocking - it returns immediately. If the connection is already closed, the future is
+     * completed exceptionally rather than the error thrown.
+     */
+    public CompletableFuture<Response> sendAsync(Transaction.Req request) {
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        try {
+            send(request, future::complete);
+        } catch (GraknClientException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void send(Transaction.Req request, Consumer<Response> slot) {
+        synchronized (responseListener) {
+            if (responseListener.terminated.get()) {
+                throw GraknClientException.connectionClosed();
+            }
+            responseListener.slots.add(slot);
+            if (responseListener.roundTrips != null) {
+                responseListener.sentAt.add(new long[]{System.nanoTime(), responseListener.creditStalls});
+            }
+            requestSender.onNext(request);
         }
-        requestSender.onNext(request);
+    }
+
+    /**
+     * Block until the stream can take another request without buffering it in memory, because the transport has room
+     * for it, or until the stream ends. Must not be called from the gRPC callback thread, which is the one to signal it.
+     */
+    public void awaitReady() throws InterruptedException {
+        responseListener.awaitReady();
     }
 
     /**
@@ -86,14 +155,25 @@ public class Transceiver implements AutoCloseable {
 
     @Override
     public void close() {
-        try {
-            requestSender.onCompleted();
-        } catch (IllegalStateException e) {
-            //IGNORED
-            //This is needed to handle the fact that:
-            //1. Commits can lead to transaction closures and
-            //2. Error can lead to connection closures but the transaction may stay open
-            //When this occurs a "half-closed" state is thrown which we can safely ignore
+        synchronized (responseListener) {
+            try {
+                requestSender.onCompleted();
+            } catch (IllegalStateException e) {
+                //IGNORED
+                //This is needed to handle the fact that:
+                //1. Commits can lead to transaction closures and
+                //2. Error can lead to connection closures but the transaction may stay open
+                //When this occurs a "half-closed" state is thrown which we can safely ignore
+            }
+        }
+    }
+
+    /**
+     * Reset the stream without waiting for the server to finish it. Requests still waiting for a response fail.
+     */
+    public void cancel() {
+        synchronized (responseListener) {
+            responseListener.requestStream.cancel("Transaction cancelled by the client", null);
         }
     }
 
@@ -102,48 +182,190 @@ public class Transceiver implements AutoCloseable {
     }
 
     /**
-     * A StreamObserver that stores all responses in a blocking queue.
+     * Number of responses received from the server and not yet consumed.
+     */
+    public int bufferedResponses() {
+        return responseListener.queueDepth.get();
+    }
+
+    /**
+     * Serialized size of the responses received from the server and not yet consumed.
+     */
+    public long bufferedBytes() {
+        return responseListener.bufferedBytes.get();
+    }
+
+    /**
+     * A StreamObserver that hands responses over to the consuming thread through a lock-free queue.
          * A response can be polled with the #poll() method.
+     * The gRPC callback thread is the only producer and the transaction thread the only consumer. When the queue is
+     * empty, the consumer waits according to its WaitStrategy, and is unparked by the producer on the next response.
+     * Each response taken off the queue grants the server credit to send another one, unless the queue is holding more
+     * than the maximum number of bytes, in which case the credit is withheld until enough has been consumed.
+     * Responses to asynchronous requests skip the queue and grant their credit as soon as they are handed over.
      */
-    private static class ResponseListener implements StreamObserver<Transaction.Res> {
+    private static class ResponseListener implements ClientResponseObserver<Transaction.Req, Transaction.Res> {
 
-        private final BlockingQueue<Response> queue = new LinkedBlockingDeque<>();
+        private final Queue<Response> queue = new ConcurrentLinkedQueue<>();
+        // Where each response still due goes, in the order the requests were sent
+        private final Queue<Consumer<Response>> slots = new ConcurrentLinkedQueue<>();
+        private final Consumer<Response> receiveSlot = this::publish;
+        private final AtomicInteger queueDepth = new AtomicInteger(0);
         private final AtomicBoolean terminated = new AtomicBoolean(false);
+        private final AtomicLong bufferedBytes = new AtomicLong(0);
+        // Notified when the request stream becomes ready for more requests, or terminates
+        private final Object readiness = new Object();
+        private final long maxBufferedBytes;
+        private final WaitStrategy waitStrategy;
+        private volatile Thread waiter;
+        private ClientCallStreamObserver<Transaction.Req> requestStream;
+        private int withheldCredits = 0;
+        // Responses the server may still send, and how many times it has run out of them
+        private final AtomicLong credits = new AtomicLong(0);
+        private volatile long creditStalls = 0;
+        // When each response still due was requested, and the credit stalls by then, only kept if round trips are observed
+        private final Queue<long[]> sentAt = new ConcurrentLinkedQueue<>();
+        private final LongConsumer roundTrips;
+
+        ResponseListener(long maxBufferedBytes, WaitStrategy waitStrategy, @Nullable LongConsumer roundTrips) {
+            this.maxBufferedBytes = maxBufferedBytes;
+            this.waitStrategy = waitStrategy;
+            this.roundTrips = roundTrips;
+        }
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<Transaction.Req> requestStream) {
+            requestStream.disableAutoInboundFlowControl();
+            requestStream.setOnReadyHandler(this::signalReadiness);
+            this.requestStream = requestStream;
+        }
+
+        private void signalReadiness() {
+            synchronized (readiness) {
+                readiness.notifyAll();
+            }
+        }
+
+        void awaitReady() throws InterruptedException {
+            synchronized (readiness) {
+                while (!requestStream.isReady() && !terminated.get()) {
+                    readiness.wait();
+                }
+            }
+        }
 
         @Override
         public void onNext(Transaction.Res value) {
-            queue.add(Response.ok(value));
+            if (roundTrips != null) {
+                long[] sent = sentAt.poll();
+                // A response which may have waited for credit measures how fast the client consumes, not the server
+                if (sent != null && sent[1] == creditStalls) roundTrips.accept(System.nanoTime() - sent[0]);
+            }
+            if (credits.decrementAndGet() == 0) creditStalls++;
+            Consumer<Response> slot = slots.poll();
+            if (slot == null || slot == receiveSlot) {
+                bufferedBytes.addAndGet(value.getSerializedSize());
+                publish(Response.ok(value));
+            } else {
+                requestResponses(1);
+                slot.accept(Response.ok(value));
+            }
         }
 
         @Override
         public void onError(Throwable throwable) {
-            terminated.set(true);
             assert throwable instanceof StatusRuntimeException : "The server only yields these exceptions";
-            queue.add(Response.error((StatusRuntimeException) throwable));
+            terminate(Response.error((StatusRuntimeException) throwable));
         }
 
         @Override
         public void onCompleted() {
-            terminated.set(true);
-            queue.add(Response.completed());
+            terminate(Response.completed());
+        }
+
+        private void terminate(Response response) {
+            synchronized (this) {
+                publish(response);
+                terminated.set(true);
+            }
+            wakeWaiter();
+            signalReadiness();
+            Consumer<Response> slot;
+            while ((slot = slots.poll()) != null) {
+                if (slot != receiveSlot) {
+                    slot.accept(response);
+                }
+            }
+        }
+
+        private void publish(Response response) {
+            queueDepth.incrementAndGet();
+            queue.offer(response);
+            wakeWaiter();
+        }
+
+        private void wakeWaiter() {
+            Thread thread = waiter;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
         }
 
         Response poll() throws InterruptedException {
-            // First check for a response without blocking
+            // First check for a response without waiting
             Response response = queue.poll();
 
             if (response != null) {
-                return response;
+                return consumed(response);
             }
 
-            // Only after checking for existing messages, we check if the connection was already terminated, so we don't
-            // block for a response forever
-            if (terminated.get()) {
-                throw GraknClientException.connectionClosed();
+            // Register as the waiter before checking again, so a response published from now on is sure to wake us up
+            waiter = Thread.currentThread();
+            try {
+                for (int attempt = 0; ; attempt++) {
+                    response = queue.poll();
+                    if (response != null) {
+                        return consumed(response);
+                    }
+
+                    // Only after checking for existing messages, we check if the connection was already terminated, so
+                    // we don't wait for a response forever. The terminal response is queued before terminated is set.
+                    if (terminated.get()) {
+                        response = queue.poll();
+                        if (response != null) {
+                            return consumed(response);
+                        }
+                        throw GraknClientException.connectionClosed();
+                    }
+
+                    waitStrategy.idle(attempt);
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                }
+            } finally {
+                waiter = null;
+            }
+        }
+
+        private Response consumed(Response response) {
+            queueDepth.decrementAndGet();
+            if (response.type() == Response.Type.OK) {
+                long remaining = bufferedBytes.addAndGet(-response.ok().getSerializedSize());
+                withheldCredits++;
+                if (remaining < maxBufferedBytes) {
+                    requestResponses(withheldCredits);
+                    withheldCredits = 0;
+                }
             }
+            return response;
+        }
 
-            // Block for a response (because we are confident there are no responses and the connection has not closed)
-            return queue.take();
+        void requestResponses(int count) {
+            if (!terminated.get()) {
+                credits.addAndGet(count);
+                requestStream.request(count);
+            }
         }
     }
 
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.rpc;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Decides what a thread waiting on a Transceiver response does each time it finds no response available.
+ * Strategies that park rely on the Transceiver unparking the waiting thread when a response arrives.
+ *
+ * Whether spinning beats blocking depends on the machine: it only helps while a core is free to spin, and the spin
+ * and yield counts that pay off depend on the round trip. The blocking default makes no assumption about either.
+ * Measure before choosing, with test/benchmark/rpc:wait-strategy-benchmark, which reports p50/p99 round trip latency
+ * of each strategy against an in-process server.
+ *
+ * {@code
+ * GraknClient client = new GraknClient(address).waitStrategy(WaitStrategy.spinYieldPark(100, 10));
+ * }
+ */
+@FunctionalInterface
+public interface WaitStrategy {
+
+    /**
+     * Wait for a response to arrive.
+     *
+     * @param attempt the number of times in a row that no response was found, starting from 0
+     */
+    void idle(int attempt);
+
+    /**
+     * Park the thread until a response arrives. Cheapest on CPU, but every response costs a thread wake-up.
+     */
+    static WaitStrategy blocking() {
+        return attempt -> LockSupport.park();
+    }
+
+    /**
+     * Spin, then yield, then park. Only worthwhile when the response usually arrives within the spins, so the counts
+     * should be chosen from the measured round trip rather than left at a guess.
+     */
+    static WaitStrategy spinYieldPark(int spins, int yields) {
+        return attempt -> {
+            if (attempt < spins) {
+                return;
+            } else if (attempt < spins + yields) {
+                Thread.yield();
+            } else {
+                LockSupport.park();
+            }
+        };
+    }
+
+    /**
+     * Never give up the CPU. Occupies a core for as long as the thread is waiting, and makes every waiting thread
+     * compete with the gRPC threads delivering responses once there are more waiting threads than free cores.
+     */
+    static WaitStrategy busySpin() {
+        return attempt -> { };
+    }
+}
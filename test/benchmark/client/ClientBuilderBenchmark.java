@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.test.benchmark.client;
+
+import grakn.client.GraknClient;
+import grakn.client.concept.ConceptId;
+import grakn.client.concept.EntityType;
+import grakn.client.rpc.ChannelPool;
+import grakn.client.test.setup.GraknProperties;
+import grakn.client.test.setup.GraknSetup;
+import graql.lang.Graql;
+import graql.lang.query.GraqlGet;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.UnaryOperator;
+
+/**
+ * Measures the throughput of clients built with each setting of GraknClient.Builder against a Grakn server, booted
+ * the same way as for the integration tests. Each setting is measured on its own against the defaults, on two
+ * workloads: streaming the answers of one large query, which is bound by the bytes the connection can carry, and
+ * point lookups from several threads at once, which is bound by the number of round trips in flight.
+ *
+ * Run with: bazel run //test/benchmark/client:client-builder-benchmark
+ */
+public class ClientBuilderBenchmark {
+
+    private static final int ENTITIES = 5_000;
+    private static final int STREAM_REPEATS = 10;
+    private static final int LOOKUP_THREADS = 8;
+    private static final long LOOKUP_MILLIS = 5_000;
+    private static final GraqlGet ALL_ROBOTS = Graql.match(Graql.var("x").isa("robot")).get();
+
+    public static void main(String[] args) throws InterruptedException, IOException, TimeoutException, ExecutionException {
+        GraknSetup.bootup();
+        try {
+            String address = System.getProperty(GraknProperties.GRAKN_ADDRESS);
+            String keyspace = "a" + UUID.randomUUID().toString().replaceAll("-", "");
+            List<ConceptId> ids = load(address, keyspace);
+
+            Map<String, UnaryOperator<GraknClient.Builder>> settings = new LinkedHashMap<>();
+            settings.put("defaults", builder -> builder);
+            settings.put("nativeTransport(true)", builder -> builder.nativeTransport(true));
+            settings.put("eventLoopThreads(2)", builder -> builder.eventLoopThreads(2));
+            settings.put("pooledAllocator(true)", builder -> builder.pooledAllocator(true));
+            settings.put("flowControlWindow(64 KiB)", builder -> builder.flowControlWindow(64 * 1024));
+            settings.put("flowControlWindow(4 MiB)", builder -> builder.flowControlWindow(4 * 1024 * 1024));
+            settings.put("channelPool(4, ROUND_ROBIN)", builder -> builder.channelPool(4, ChannelPool.Selection.ROUND_ROBIN));
+
+            System.out.println(String.format("%-30s %16s %16s", "setting", "answers/s", "lookups/s"));
+            for (Map.Entry<String, UnaryOperator<GraknClient.Builder>> setting : settings.entrySet()) {
+                GraknClient client = setting.getValue().apply(GraknClient.builder().address(address)).build();
+                try (GraknClient.Session session = client.session(keyspace)) {
+                    // Warm up the connection and the server's caches before measuring
+                    streamedAnswersPerSecond(session, 1);
+                    double answers = streamedAnswersPerSecond(session, STREAM_REPEATS);
+                    double lookups = lookupsPerSecond(session, ids);
+                    System.out.println(String.format("%-30s %16.0f %16.0f", setting.getKey(), answers, lookups));
+                } finally {
+                    client.close();
+                }
+            }
+        } finally {
+            GraknSetup.shutdown();
+        }
+    }
+
+    private static List<ConceptId> load(String address, String keyspace) {
+        GraknClient client = new GraknClient(address);
+        try (GraknClient.Session session = client.session(keyspace)) {
+            GraknClient.Transaction tx = session.transaction().write();
+            EntityType robot = tx.putEntityType("robot");
+            List<ConceptId> ids = new ArrayList<>(ENTITIES);
+            for (int i = 0; i < ENTITIES; i++) ids.add(robot.create().id());
+            tx.commit();
+            return ids;
+        } finally {
+            client.close();
+        }
+    }
+
+    private static double streamedAnswersPerSecond(GraknClient.Session session, int repeats) {
+        GraknClient.Transaction tx = session.transaction().readAhead(64).read();
+        try {
+            long answers = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < repeats; i++) answers += tx.stream(ALL_ROBOTS, false).count();
+            return answers / seconds(System.nanoTime() - start);
+        } finally {
+            tx.close();
+        }
+    }
+
+    private static double lookupsPerSecond(GraknClient.Session session, List<ConceptId> ids) throws InterruptedException, ExecutionException {
+        ExecutorService threads = Executors.newFixedThreadPool(LOOKUP_THREADS);
+        try {
+            List<Future<Long>> counts = new ArrayList<>();
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(LOOKUP_MILLIS);
+            long start = System.nanoTime();
+            for (int t = 0; t < LOOKUP_THREADS; t++) {
+                int offset = t;
+                counts.add(threads.submit(() -> {
+                    GraknClient.Transaction tx = session.transaction().read();
+                    try {
+                        long lookups = 0;
+                        for (int i = offset; System.nanoTime() < deadline; i += LOOKUP_THREADS) {
+                            tx.getConcept(ids.get(i % ids.size()));
+                            lookups++;
+                        }
+                        return lookups;
+                    } finally {
+                        tx.close();
+                    }
+                }));
+            }
+            long lookups = 0;
+            for (Future<Long> count : counts) lookups += count.get();
+            return lookups / seconds(System.nanoTime() - start);
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1e9;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.test.benchmark.rpc;
+
+import grakn.client.GraknClient;
+import grakn.client.concept.Label;
+import grakn.client.rpc.WaitStrategy;
+import grakn.protocol.session.ConceptProto;
+import grakn.protocol.session.SessionProto;
+import grakn.protocol.session.SessionServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the round trip latency of getSchemaConcept under each WaitStrategy, against an in-process server which
+ * answers every lookup at once. Responses are delivered on the server's executor, so each one is handed over to the
+ * waiting thread as it would be from a Netty event loop, and the latency measured is that of the handover rather than
+ * of a network.
+ *
+ * Run with: bazel run //test/benchmark/rpc:wait-strategy-benchmark -- [warmup round trips] [measured round trips]
+ */
+public class WaitStrategyBenchmark {
+
+    private static final String SERVER_NAME = WaitStrategyBenchmark.class.getName();
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int warmup = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int measured = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+
+        Map<String, WaitStrategy> strategies = new LinkedHashMap<>();
+        strategies.put("blocking", WaitStrategy.blocking());
+        strategies.put("spin-yield-park(100, 10)", WaitStrategy.spinYieldPark(100, 10));
+        strategies.put("spin-yield-park(1000, 100)", WaitStrategy.spinYieldPark(1000, 100));
+        strategies.put("busy-spin", WaitStrategy.busySpin());
+
+        Server server = InProcessServerBuilder.forName(SERVER_NAME).addService(new LookupService()).build().start();
+        try {
+            System.out.println(String.format("%-28s %10s %10s %10s", "strategy", "p50 (us)", "p99 (us)", "p99.9 (us)"));
+            for (Map.Entry<String, WaitStrategy> strategy : strategies.entrySet()) {
+                long[] latencies = run(strategy.getValue(), warmup, measured);
+                System.out.println(String.format("%-28s %10.1f %10.1f %10.1f", strategy.getKey(),
+                                                 percentile(latencies, 0.5), percentile(latencies, 0.99),
+                                                 percentile(latencies, 0.999)));
+            }
+        } finally {
+            server.shutdownNow().awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static long[] run(WaitStrategy strategy, int warmup, int measured) throws InterruptedException {
+        ManagedChannel channel = InProcessChannelBuilder.forName(SERVER_NAME).build();
+        GraknClient client = new GraknClient().overrideChannel(channel).waitStrategy(strategy);
+        GraknClient.Session session = client.session("benchmark");
+        GraknClient.Transaction tx = session.transaction().read();
+        try {
+            Label label = Label.of("thing");
+            for (int i = 0; i < warmup; i++) tx.getSchemaConcept(label);
+
+            long[] latencies = new long[measured];
+            for (int i = 0; i < measured; i++) {
+                long start = System.nanoTime();
+                tx.getSchemaConcept(label);
+                latencies[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(latencies);
+            return latencies;
+        } finally {
+            tx.close();
+            session.close();
+            client.close();
+            channel.shutdownNow().awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1000.0;
+    }
+
+    /**
+     * Opens sessions and transactions, and answers every other transaction request as a schema concept lookup.
+     */
+    private static class LookupService extends SessionServiceGrpc.SessionServiceImplBase {
+
+        private static final SessionProto.Transaction.Res OPENED = SessionProto.Transaction.Res.newBuilder()
+                .setOpenRes(SessionProto.Transaction.Open.Res.getDefaultInstance()).build();
+        private static final SessionProto.Transaction.Res FOUND = SessionProto.Transaction.Res.newBuilder()
+                .setGetSchemaConceptRes(SessionProto.Transaction.GetSchemaConcept.Res.newBuilder().setSchemaConcept(
+                        ConceptProto.Concept.newBuilder().setId("V1").setBaseType(ConceptProto.Concept.BASE_TYPE.META_TYPE))).build();
+
+        @Override
+        public void open(SessionProto.Session.Open.Req request, StreamObserver<SessionProto.Session.Open.Res> responseObserver) {
+            responseObserver.onNext(SessionProto.Session.Open.Res.newBuilder().setSessionId(UUID.randomUUID().toString()).build());
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void close(SessionProto.Session.Close.Req request, StreamObserver<SessionProto.Session.Close.Res> responseObserver) {
+            responseObserver.onNext(SessionProto.Session.Close.Res.getDefaultInstance());
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public StreamObserver<SessionProto.Transaction.Req> transaction(StreamObserver<SessionProto.Transaction.Res> responseObserver) {
+            return new StreamObserver<SessionProto.Transaction.Req>() {
+                @Override
+                public void onNext(SessionProto.Transaction.Req request) {
+                    responseObserver.onNext(request.hasOpenReq() ? OPENED : FOUND);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {}
+
+                @Override
+                public void onCompleted() {
+                    responseObserver.onCompleted();
+                }
+            };
+        }
+    }
+}
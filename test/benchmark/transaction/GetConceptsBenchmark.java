@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.test.benchmark.transaction;
+
+import grakn.client.GraknClient;
+import grakn.client.concept.ConceptId;
+import grakn.client.concept.EntityType;
+import grakn.client.test.setup.GraknProperties;
+import grakn.client.test.setup.GraknSetup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Compares looking up a batch of concepts with Transaction#getConcepts, which keeps a window of lookups in flight on
+ * the stream, against looking them up one after the other with Transaction#getConcept, against a Grakn server booted
+ * the same way as for the integration tests. For each batch size, the median time of a batch is printed for the
+ * sequential loop and for getConcepts with a few windows, along with the speedup of each over the loop.
+ *
+ * Run with: bazel run //test/benchmark/transaction:get-concepts-benchmark
+ */
+public class GetConceptsBenchmark {
+
+    private static final int ENTITIES = 5_000;
+    private static final int[] BATCH_SIZES = {1, 10, 100, 1_000, 5_000};
+    // The window of getConcepts(ids) is 256
+    private static final int[] WINDOWS = {16, 256};
+    // Each batch size is measured over about this many lookups, and at least this many batches
+    private static final int LOOKUPS_PER_MEASUREMENT = 20_000;
+    private static final int MIN_BATCHES = 5;
+
+    public static void main(String[] args) throws InterruptedException, IOException, TimeoutException {
+        GraknSetup.bootup();
+        try {
+            String address = System.getProperty(GraknProperties.GRAKN_ADDRESS);
+            String keyspace = "a" + UUID.randomUUID().toString().replaceAll("-", "");
+            GraknClient client = new GraknClient(address);
+            try (GraknClient.Session session = client.session(keyspace)) {
+                List<ConceptId> ids = load(session);
+
+                StringBuilder header = new StringBuilder(String.format("%8s %16s", "batch", "getConcept (ms)"));
+                for (int window : WINDOWS) header.append(String.format(" %24s %8s", "getConcepts/" + window + " (ms)", "speedup"));
+                System.out.println(header);
+
+                for (int batchSize : BATCH_SIZES) {
+                    GraknClient.Transaction tx = session.transaction().read();
+                    try {
+                        List<List<ConceptId>> batches = batches(ids, batchSize);
+                        // Warm up the connection and the server's caches before measuring
+                        batches.forEach(batch -> batch.forEach(tx::getConcept));
+
+                        double sequential = medianMillis(batches, batch -> batch.forEach(tx::getConcept));
+                        StringBuilder row = new StringBuilder(String.format("%8d %16.3f", batchSize, sequential));
+                        for (int window : WINDOWS) {
+                            double pipelined = medianMillis(batches, batch -> tx.getConcepts(batch, window));
+                            row.append(String.format(" %24.3f %7.1fx", pipelined, sequential / pipelined));
+                        }
+                        System.out.println(row);
+                    } finally {
+                        tx.close();
+                    }
+                }
+            } finally {
+                client.close();
+            }
+        } finally {
+            GraknSetup.shutdown();
+        }
+    }
+
+    private static List<ConceptId> load(GraknClient.Session session) {
+        GraknClient.Transaction tx = session.transaction().write();
+        EntityType robot = tx.putEntityType("robot");
+        List<ConceptId> ids = new ArrayList<>(ENTITIES);
+        for (int i = 0; i < ENTITIES; i++) ids.add(robot.create().id());
+        tx.commit();
+        return ids;
+    }
+
+    /**
+     * Batches of ids cycling through all of them, enough to make up the lookups of one measurement.
+     */
+    private static List<List<ConceptId>> batches(List<ConceptId> ids, int batchSize) {
+        int count = Math.max(MIN_BATCHES, LOOKUPS_PER_MEASUREMENT / batchSize);
+        List<List<ConceptId>> batches = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<ConceptId> batch = new ArrayList<>(batchSize);
+            for (int j = 0; j < batchSize; j++) batch.add(ids.get((i * batchSize + j) % ids.size()));
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private static double medianMillis(List<List<ConceptId>> batches, Consumer<List<ConceptId>> lookup) {
+        long[] nanos = new long[batches.size()];
+        for (int i = 0; i < batches.size(); i++) {
+            long start = System.nanoTime();
+            lookup.accept(batches.get(i));
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[nanos.length / 2] / 1e6;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.test.integration.client;
+
+import grakn.client.GraknClient;
+import grakn.client.concept.Attribute;
+import grakn.client.concept.AttributeType;
+import grakn.client.concept.ConceptId;
+import grakn.client.concept.EntityType;
+import grakn.client.exception.GraknClientException;
+import grakn.client.rpc.ChannelPool;
+import grakn.client.test.setup.GraknProperties;
+import grakn.client.test.setup.GraknSetup;
+import graql.lang.Graql;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Integration Tests of clients built with each non-default setting of GraknClient.Builder, each of which must still
+ * carry transactions end to end.
+ */
+public class ClientBuilderIT {
+
+    private static final int PEOPLE = 200;
+
+    private static String address;
+    private static String keyspace;
+    private static ConceptId longNameId;
+
+    @BeforeClass
+    public static void setUpClass() throws InterruptedException, IOException, TimeoutException {
+        GraknSetup.bootup();
+        address = System.getProperty(GraknProperties.GRAKN_ADDRESS);
+        keyspace = "a" + UUID.randomUUID().toString().replaceAll("-", "");
+
+        GraknClient client = new GraknClient(address);
+        try (GraknClient.Session session = client.session(keyspace)) {
+            GraknClient.Transaction tx = session.transaction().write();
+            EntityType person = tx.putEntityType("person");
+            AttributeType<String> name = tx.putAttributeType("name", AttributeType.DataType.STRING);
+            person.has(name);
+            for (int i = 0; i < PEOPLE; i++) person.create().has(name.create("person-" + i));
+            char[] longName = new char[20 * 1024];
+            Arrays.fill(longName, 'a');
+            longNameId = name.create(new String(longName)).id();
+            tx.commit();
+        } finally {
+            client.close();
+        }
+    }
+
+    @AfterClass
+    public static void tearDownClass() throws InterruptedException, TimeoutException, IOException {
+        GraknSetup.shutdown();
+    }
+
+    @Test
+    public void whenUsingTheNativeTransport_TransactionsWork() {
+        assertTransactionsWork(builder -> builder.nativeTransport(true));
+    }
+
+    @Test
+    public void whenSettingTheEventLoopThreads_TransactionsWork() {
+        assertTransactionsWork(builder -> builder.eventLoopThreads(1));
+    }
+
+    @Test
+    public void whenUsingThePooledAllocator_TransactionsWork() {
+        assertTransactionsWork(builder -> builder.pooledAllocator(true));
+    }
+
+    @Test
+    public void whenTheFlowControlWindowIsSmallerThanTheAnswers_AllAnswersStillArrive() {
+        assertTransactionsWork(builder -> builder.flowControlWindow(1024));
+    }
+
+    @Test
+    public void whenKeepingAlive_TransactionsWork() {
+        assertTransactionsWork(builder -> builder.keepAlive(10, 5, TimeUnit.SECONDS).keepAliveWithoutCalls(true));
+    }
+
+    @Test
+    public void whenTheConnectionWasClosedForIdleness_ItIsReopenedOnNextUse() throws InterruptedException {
+        GraknClient client = GraknClient.builder().address(address).idleTimeout(1, TimeUnit.SECONDS).build();
+        try (GraknClient.Session session = client.session(keyspace)) {
+            assertAllPeopleAreRead(session);
+            Thread.sleep(2_000);
+            assertAllPeopleAreRead(session);
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void whenGivenAnExecutor_ResponseCallbacksRunOnIt() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AtomicInteger callbacks = new AtomicInteger();
+        try {
+            assertTransactionsWork(builder -> builder.executor(command -> {
+                callbacks.incrementAndGet();
+                executor.execute(command);
+            }));
+            assertTrue(callbacks.get() > 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void whenPoolingChannels_ConcurrentTransactionsWork() {
+        GraknClient client = GraknClient.builder().address(address)
+                .channelPool(2, ChannelPool.Selection.LEAST_LOADED).build();
+        try (GraknClient.Session session = client.session(keyspace)) {
+            GraknClient.Transaction first = session.transaction().read();
+            GraknClient.Transaction second = session.transaction().read();
+            try {
+                assertEquals(PEOPLE, first.execute(Graql.match(Graql.var("x").isa("person")).get()).size());
+                assertEquals(PEOPLE, second.execute(Graql.match(Graql.var("x").isa("person")).get()).size());
+            } finally {
+                first.close();
+                second.close();
+            }
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test(expected = GraknClientException.class)
+    public void whenAMessageIsLargerThanTheMaxInboundMessageSize_ReadingItFails() {
+        GraknClient client = GraknClient.builder().address(address).maxInboundMessageSize(8 * 1024).build();
+        try (GraknClient.Session session = client.session(keyspace)) {
+            assertAllPeopleAreRead(session);
+
+            GraknClient.Transaction tx = session.transaction().read();
+            try {
+                Attribute<String> longName = tx.getConcept(longNameId);
+                longName.value();
+            } finally {
+                tx.close();
+            }
+        } finally {
+            client.close();
+        }
+    }
+
+    private static void assertTransactionsWork(Consumer<GraknClient.Builder> setting) {
+        GraknClient.Builder builder = GraknClient.builder().address(address);
+        setting.accept(builder);
+        GraknClient client = builder.build();
+        try (GraknClient.Session session = client.session(keyspace)) {
+            assertAllPeopleAreRead(session);
+        } finally {
+            client.close();
+        }
+    }
+
+    private static void assertAllPeopleAreRead(GraknClient.Session session) {
+        GraknClient.Transaction tx = session.transaction().read();
+        try {
+            assertEquals(PEOPLE, tx.execute(Graql.match(Graql.var("x").isa("person")).get()).size());
+        } finally {
+            tx.close();
+        }
+    }
+}
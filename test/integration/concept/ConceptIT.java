@@ -20,11 +20,15 @@
 package grakn.client.test.integration.concept;
 
 import grakn.client.GraknClient;
+import grakn.client.SchemaSnapshot;
 import grakn.client.answer.ConceptMap;
 import grakn.client.answer.Explanation;
 import grakn.client.concept.Attribute;
 import grakn.client.concept.AttributeType;
 import grakn.client.concept.AttributeType.DataType;
+import grakn.client.concept.Concept;
+import grakn.client.concept.ConceptId;
+import grakn.client.concept.ConceptProperty;
 import grakn.client.concept.Entity;
 import grakn.client.concept.EntityType;
 import grakn.client.concept.Label;
@@ -32,9 +36,12 @@ import grakn.client.concept.Relation;
 import grakn.client.concept.RelationType;
 import grakn.client.concept.Role;
 import grakn.client.concept.Rule;
+import grakn.client.concept.SchemaConcept;
 import grakn.client.concept.Thing;
+import grakn.client.exception.GraknClientException;
 import grakn.client.test.setup.GraknProperties;
 import grakn.client.test.setup.GraknSetup;
+import grakn.protocol.session.ConceptProto;
 import graql.lang.Graql;
 import graql.lang.pattern.Pattern;
 import graql.lang.statement.Variable;
@@ -45,14 +52,22 @@ import org.junit.BeforeClass;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
 
 import static graql.lang.Graql.var;
 import static java.util.stream.Collectors.toList;
@@ -62,7 +77,9 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -603,6 +620,350 @@ public class ConceptIT {
         assertTrue(dylanAndEmily.rolePlayers().collect(toSet()).isEmpty());
     }
 
+    @Test
+    public void whenMutatingWithWriteBehind_MutationsAreAppliedBeforeTheNextRequest() {
+        GraknClient.Transaction writeBehindTx = session.transaction().writeBehind().write();
+        try {
+            EntityType robot = writeBehindTx.putEntityType("robot");
+            AttributeType<String> serial = writeBehindTx.putAttributeType("serial", DataType.STRING);
+            Role operator = writeBehindTx.putRole("operator");
+            robot.has(serial).plays(operator);
+            Entity r2d2 = robot.create();
+            r2d2.has(serial.create("r2d2"));
+
+            assertEquals(serial, robot.attributes().findAny().get());
+            assertTrue(robot.playing().anyMatch(operator::equals));
+            assertEquals("r2d2", r2d2.attributes(serial).findAny().get().value());
+        } finally {
+            writeBehindTx.close();
+        }
+    }
+
+    @Test
+    public void whenMoreMutationsAreWrittenBehindThanMayBeInFlight_TheyWaitAndAreAllApplied() {
+        GraknClient.Transaction writeBehindTx = session.transaction().writeBehind(2).write();
+        try {
+            EntityType robot = writeBehindTx.putEntityType("robot");
+            AttributeType<String> serial = writeBehindTx.putAttributeType("serial", DataType.STRING);
+            robot.has(serial);
+            Entity r2d2 = robot.create();
+            for (int i = 0; i < 100; i++) r2d2.has(serial.create("serial-" + i));
+
+            assertEquals(100, r2d2.attributes(serial).count());
+        } finally {
+            writeBehindTx.close();
+        }
+    }
+
+    @Test(expected = GraknClientException.class)
+    public void whenAWriteBehindMutationFails_TheNextRequestThrows() {
+        GraknClient.Transaction writeBehindTx = session.transaction().writeBehind().write();
+        try {
+            EntityType robot = writeBehindTx.putEntityType("robot");
+            Role operator = writeBehindTx.putRole("operator");
+            operator.delete();
+
+            robot.plays(operator); // returns as soon as it is sent, and fails on the server
+            writeBehindTx.getSchemaConcept(Label.of("robot"));
+        } finally {
+            writeBehindTx.close();
+        }
+    }
+
+    @Test(expected = GraknClientException.class)
+    public void whenAWriteBehindMutationFails_CommittingThrows() {
+        GraknClient.Transaction writeBehindTx = session.transaction().writeBehind().write();
+        try {
+            EntityType robot = writeBehindTx.putEntityType("robot");
+            Role operator = writeBehindTx.putRole("operator");
+            operator.delete();
+
+            robot.plays(operator);
+            writeBehindTx.commit();
+        } finally {
+            writeBehindTx.close();
+        }
+    }
+
+    @Test
+    public void whenGettingConceptsInBulk_EachIdMapsToItsConcept() {
+        ConceptId missing = ConceptId.of("V999999999");
+        Map<ConceptId, Concept> concepts = tx.getConcepts(Arrays.asList(alice.id(), bob.id(), missing, person.id()), 2);
+
+        assertEquals(3, concepts.size());
+        assertEquals(alice, concepts.get(alice.id()));
+        assertEquals(bob, concepts.get(bob.id()));
+        assertEquals(person, concepts.get(person.id()));
+        assertFalse(concepts.containsKey(missing));
+    }
+
+    @Test
+    public void whenEnrichingAStream_EachConceptIsPairedWithItsOwnProperty() {
+        List<Map.Entry<Attribute<?>, Object>> values = tx.enrich(
+                Stream.<Attribute<?>>of(nameAlice, nameBob, age20), ConceptProperty.VALUE, 2
+        ).collect(toList());
+        assertEquals(Arrays.asList(nameAlice, nameBob, age20), values.stream().map(Map.Entry::getKey).collect(toList()));
+        assertEquals(Arrays.asList(ALICE, BOB, TWENTY), values.stream().map(Map.Entry::getValue).collect(toList()));
+
+        assertTrue(tx.enrich(person.instances(), ConceptProperty.TYPE).allMatch(entry -> entry.getValue().equals(person)));
+    }
+
+    @Test
+    public void whenGettingAttributesOfManyThings_EachThingGetsItsOwnLabelledValues() {
+        Map<ConceptId, List<Map.Entry<Label, Object>>> attributes = tx.attributesOf(Arrays.asList(alice, bob), name, age);
+
+        assertEquals(Arrays.asList(alice.id(), bob.id()), new ArrayList<>(attributes.keySet()));
+        assertEquals(new HashSet<>(Arrays.asList(
+                new AbstractMap.SimpleImmutableEntry<Label, Object>(NAME, ALICE),
+                new AbstractMap.SimpleImmutableEntry<Label, Object>(AGE, TWENTY)
+        )), new HashSet<>(attributes.get(alice.id())));
+        assertEquals(new HashSet<>(Arrays.asList(
+                new AbstractMap.SimpleImmutableEntry<Label, Object>(NAME, BOB),
+                new AbstractMap.SimpleImmutableEntry<Label, Object>(AGE, TWENTY)
+        )), new HashSet<>(attributes.get(bob.id())));
+    }
+
+    @Test
+    public void whenGettingAttributesOfAThingGivenTwice_ItIsReadOnceAndTheTransactionCarriesOn() {
+        Map<ConceptId, List<Map.Entry<Label, Object>>> attributes = tx.attributesOf(Arrays.asList(alice, bob, alice), name);
+
+        assertEquals(Arrays.asList(alice.id(), bob.id()), new ArrayList<>(attributes.keySet()));
+        assertEquals(Collections.singletonList(new AbstractMap.SimpleImmutableEntry<Label, Object>(NAME, ALICE)),
+                     attributes.get(alice.id()));
+        assertEquals(Collections.singletonList(new AbstractMap.SimpleImmutableEntry<Label, Object>(NAME, BOB)),
+                     attributes.get(bob.id()));
+        assertEquals(alice, tx.getConcept(alice.id()));
+    }
+
+    @Test
+    public void whenGettingRolePlayersOfManyRelations_RolesAreSharedBetweenRelations() {
+        Relation secondMarriage = marriage.create().assign(wife, alice).assign(husband, bob);
+        Map<ConceptId, Map<Role, Set<Thing>>> rolePlayers = tx.rolePlayersOf(Arrays.asList(aliceAndBob, secondMarriage, selfEmployment));
+
+        assertEquals(aliceAndBob.rolePlayersMap(), rolePlayers.get(aliceAndBob.id()));
+        assertEquals(secondMarriage.rolePlayersMap(), rolePlayers.get(secondMarriage.id()));
+        assertEquals(selfEmployment.rolePlayersMap(), rolePlayers.get(selfEmployment.id()));
+
+        Role wifeOfAliceAndBob = rolePlayers.get(aliceAndBob.id()).keySet().stream().filter(wife::equals).findAny().get();
+        Role wifeOfSecondMarriage = rolePlayers.get(secondMarriage.id()).keySet().stream().filter(wife::equals).findAny().get();
+        assertSame(wifeOfAliceAndBob, wifeOfSecondMarriage);
+    }
+
+    @Test
+    public void whenUsingAnIdentityMap_EachConceptIdHasOneObject() {
+        GraknClient.Transaction identityTx = session.transaction().identityMap(1000).write();
+        try {
+            EntityType robot = identityTx.putEntityType("robot");
+            Entity r2d2 = robot.create();
+
+            assertSame(r2d2, identityTx.getConcept(r2d2.id()));
+            assertSame(robot, r2d2.type());
+            robot.instances().forEach(instance -> assertSame(r2d2, instance));
+        } finally {
+            identityTx.close();
+        }
+    }
+
+    @Test
+    public void whenCachingTheSchema_CommittingASchemaChangeClearsTheCache() {
+        GraknClient.Session cachingSession = client.session(session.keyspace().name()).cacheSchema();
+        try {
+            // The cache is shared by every session of the client on the keyspace, so start from an empty one
+            cachingSession.schemaCache().invalidate();
+            GraknClient.Transaction readTx = cachingSession.transaction().read();
+            try {
+                SchemaConcept entity = readTx.getSchemaConcept(Label.of("entity"));
+                assertEquals(1, cachingSession.schemaCache().size());
+                assertEquals(entity, readTx.getSchemaConcept(Label.of("entity")));
+                assertEquals(Label.of("entity"), entity.label());
+            } finally {
+                readTx.close();
+            }
+
+            GraknClient.Transaction writeTx = cachingSession.transaction().write();
+            try {
+                writeTx.putEntityType("droid");
+                writeTx.commit();
+            } finally {
+                writeTx.close();
+            }
+            assertEquals(0, cachingSession.schemaCache().size());
+        } finally {
+            cachingSession.close();
+        }
+    }
+
+    @Test
+    public void whenASchemaChangeIsCommittedThroughAnotherSessionOfTheClient_TheCacheIsCleared() {
+        GraknClient.Session cachingSession = client.session(session.keyspace().name()).cacheSchema();
+        GraknClient.Session otherSession = client.session(session.keyspace().name());
+        try {
+            // The cache is shared by every session of the client on the keyspace, so start from an empty one
+            cachingSession.schemaCache().invalidate();
+            GraknClient.Transaction readTx = cachingSession.transaction().read();
+            try {
+                readTx.getSchemaConcept(Label.of("entity"));
+                assertEquals(1, cachingSession.schemaCache().size());
+            } finally {
+                readTx.close();
+            }
+
+            GraknClient.Transaction writeTx = otherSession.transaction().write();
+            try {
+                writeTx.putEntityType("droid");
+                writeTx.commit();
+            } finally {
+                writeTx.close();
+            }
+            assertEquals(0, cachingSession.schemaCache().size());
+        } finally {
+            otherSession.close();
+            cachingSession.close();
+        }
+    }
+
+    @Test
+    public void whenATransactionOpenedBeforeASchemaChangeReadsTheSchema_TheCacheIsNotRefilled() {
+        GraknClient.Session cachingSession = client.session(session.keyspace().name()).cacheSchema();
+        try {
+            // The cache is shared by every session of the client on the keyspace, so start from an empty one
+            cachingSession.schemaCache().invalidate();
+            GraknClient.Transaction staleTx = cachingSession.transaction().read();
+            try {
+                GraknClient.Transaction writeTx = cachingSession.transaction().write();
+                try {
+                    writeTx.putEntityType("droid");
+                    writeTx.commit();
+                } finally {
+                    writeTx.close();
+                }
+
+                assertNull(staleTx.schemaCache());
+                assertNotNull(staleTx.getSchemaConcept(Label.of("entity")).label());
+                assertEquals(0, cachingSession.schemaCache().size());
+            } finally {
+                staleTx.close();
+            }
+
+            GraknClient.Transaction readTx = cachingSession.transaction().read();
+            try {
+                readTx.getSchemaConcept(Label.of("droid"));
+                assertEquals(1, cachingSession.schemaCache().size());
+            } finally {
+                readTx.close();
+            }
+        } finally {
+            cachingSession.close();
+        }
+    }
+
+    @Test
+    public void whenConceptPropertiesHaveBeenRead_TheyAreAnsweredWithoutTheServer() {
+        GraknClient.Transaction memoTx = session.transaction().write();
+        AttributeType<String> serial = memoTx.putAttributeType("serial", DataType.STRING);
+        Attribute<String> serialOne = serial.create("one");
+        assertEquals("one", serialOne.value());
+        assertEquals(serial, serialOne.type());
+        assertEquals(DataType.STRING, serial.dataType());
+        memoTx.close();
+
+        // The transaction is closed, so only memoised properties can still be answered
+        assertEquals("one", serialOne.value());
+        assertEquals(serial, serialOne.type());
+        assertEquals(DataType.STRING, serial.dataType());
+    }
+
+    @Test
+    public void whenReadingALabelInAReadTransaction_ItIsAnsweredWithoutTheServerAfterwards() {
+        GraknClient.Transaction readTx = session.transaction().read();
+        SchemaConcept entity = readTx.getSchemaConcept(Label.of("entity"));
+        assertEquals(Label.of("entity"), entity.label());
+        readTx.close();
+
+        assertEquals(Label.of("entity"), entity.label());
+    }
+
+    @Test
+    public void whenRelabellingASchemaConceptInAWriteTransaction_EveryObjectOfItSeesTheNewLabel() {
+        tx.putEntityType("droid");
+        SchemaConcept relabelled = tx.getSchemaConcept(Label.of("droid"));
+        SchemaConcept other = tx.getSchemaConcept(Label.of("droid"));
+        assertNotSame(relabelled, other);
+        assertEquals(Label.of("droid"), relabelled.label());
+        assertEquals(Label.of("droid"), other.label());
+
+        relabelled.label(Label.of("robot"));
+
+        assertEquals(Label.of("robot"), relabelled.label());
+        assertEquals(Label.of("robot"), other.label());
+    }
+
+    @Test
+    public void whenSnapshottingTheSchema_TheSnapshotIsReadBackFromAFileUntilTheSchemaChanges() throws IOException {
+        SchemaSnapshot snapshot = SchemaSnapshot.load(tx);
+        assertEquals(LIVING_THING, snapshot.get(PERSON).sup());
+        assertTrue(snapshot.get(LIVING_THING).isAbstract());
+        assertTrue(snapshot.get(PERSON).keys().contains(EMAIL));
+        assertTrue(snapshot.get(PERSON).attributes().contains(NAME));
+        assertTrue(snapshot.get(PERSON).playing().contains(WIFE));
+        assertThat(snapshot.get(MARRIAGE).roles(), containsInAnyOrder(WIFE, HUSBAND));
+        assertEquals(DataType.INTEGER, snapshot.get(AGE).dataType());
+        assertTrue(snapshot.subs(LIVING_THING).contains(PERSON));
+        assertEquals(person, snapshot.get(PERSON).schemaConcept(tx));
+
+        Path file = Files.createTempFile("schema", ".snapshot");
+        snapshot.write(file);
+        SchemaSnapshot read = SchemaSnapshot.read(file);
+        assertEquals(snapshot.nodes().size(), read.nodes().size());
+        assertEquals(snapshot.sups(PERSON), read.sups(PERSON));
+        assertEquals(snapshot.get(PERSON).attributes(), read.get(PERSON).attributes());
+        assertTrue(read.isCurrent(tx));
+
+        tx.putEntityType("droid");
+        assertFalse(read.isCurrent(tx));
+        Files.delete(file);
+    }
+
+    @Test
+    public void whenOnlyTheAttributesOrAbstractnessOfATypeChange_TheSnapshotIsNoLongerCurrent() {
+        SchemaSnapshot snapshot = SchemaSnapshot.load(tx);
+        assertTrue(snapshot.isCurrent(tx));
+        boy.has(name);
+        assertFalse(snapshot.isCurrent(tx));
+
+        snapshot = SchemaSnapshot.load(tx);
+        boy.isAbstract(true);
+        assertFalse(snapshot.isCurrent(tx));
+    }
+
+    @Test
+    public void whenASnapshotFileIsCorrupt_ItIsReplacedByAFreshSnapshot() throws IOException {
+        Path file = Files.createTempFile("schema", ".snapshot");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeInt(0x4752534e);
+            out.writeInt(2);
+            out.writeInt(0);
+            out.writeInt(2);
+            for (String id : Arrays.asList("V1", "V2")) {
+                out.writeUTF("duplicate");
+                out.writeUTF(id);
+                out.writeByte(ConceptProto.Concept.BASE_TYPE.ENTITY_TYPE.getNumber());
+            }
+            for (int i = 0; i < 2; i++) {
+                out.writeInt(-1);
+                out.writeBoolean(false);
+                out.writeByte(-1);
+                for (int list = 0; list < 4; list++) out.writeInt(0);
+            }
+        }
+
+        SchemaSnapshot snapshot = SchemaSnapshot.load(tx, file);
+
+        assertEquals(LIVING_THING, snapshot.get(PERSON).sup());
+        assertTrue(SchemaSnapshot.read(file).isCurrent(tx));
+        Files.delete(file);
+    }
+
 
     @Test
     public void testExplanation() {
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.test.integration.session;
+
+import grakn.client.GraknClient;
+import grakn.client.concept.EntityType;
+import grakn.client.concept.Label;
+import grakn.client.test.setup.GraknProperties;
+import grakn.client.test.setup.GraknSetup;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Integration Tests for the Sessions of a GraknClient, and the cache which shares them across keyspaces.
+ */
+public class SessionIT {
+
+    private static String address;
+    private GraknClient client;
+
+    @BeforeClass
+    public static void setUpClass() throws InterruptedException, IOException, TimeoutException {
+        GraknSetup.bootup();
+        address = System.getProperty(GraknProperties.GRAKN_ADDRESS);
+    }
+
+    @AfterClass
+    public static void tearDownClass() throws InterruptedException, TimeoutException, IOException {
+        GraknSetup.shutdown();
+    }
+
+    @Before
+    public void setUp() {
+        client = new GraknClient(address);
+    }
+
+    @After
+    public void tearDown() {
+        client.close();
+    }
+
+    @Test
+    public void whenAskingForACachedKeyspaceAgain_TheSameSessionIsReturned() {
+        client.cacheSessions(2, 1, TimeUnit.MINUTES);
+        String keyspace = randomKeyspace();
+
+        GraknClient.Session first = client.session(keyspace);
+        GraknClient.Session second = client.session(keyspace);
+
+        assertSame(first, second);
+        assertEquals(1, client.sessionCache().missCount());
+        assertEquals(1, client.sessionCache().hitCount());
+    }
+
+    @Test
+    public void whenMoreKeyspacesAreUsedThanTheCacheHolds_TheLeastRecentlyUsedSessionIsEvictedAndClosed() throws InterruptedException {
+        client.cacheSessions(1, 1, TimeUnit.MINUTES);
+
+        GraknClient.Session evicted = client.session(randomKeyspace());
+        GraknClient.Session kept = client.session(randomKeyspace());
+
+        assertNotSame(evicted, kept);
+        assertEquals(2, client.sessionCache().missCount());
+        assertEquals(1, client.sessionCache().evictionCount());
+        assertEquals(1, client.sessionCache().size());
+
+        // Closed on the cache's background thread rather than by the call which evicted it
+        waitUntil(() -> !evicted.isOpen());
+        assertTrue(kept.isOpen());
+    }
+
+    @Test
+    public void whenAnIdleSessionExpires_ItIsClosed() throws InterruptedException {
+        client.cacheSessions(2, 200, TimeUnit.MILLISECONDS);
+
+        GraknClient.Session expired = client.session(randomKeyspace());
+
+        waitUntil(() -> !expired.isOpen());
+        assertEquals(0, client.sessionCache().size());
+    }
+
+    @Test
+    public void whenASessionInUseIsEvicted_ItIsClosedOnceItsTransactionsAre() throws InterruptedException {
+        client.cacheSessions(1, 1, TimeUnit.MINUTES);
+        GraknClient.Session evicted = client.session(randomKeyspace());
+        GraknClient.Transaction tx = evicted.transaction().read();
+        try {
+            client.session(randomKeyspace());
+            assertEquals(1, client.sessionCache().evictionCount());
+
+            Thread.sleep(500);
+            assertTrue(evicted.isOpen());
+            assertNotNull(tx.getSchemaConcept(Label.of("thing")));
+        } finally {
+            tx.close();
+        }
+
+        waitUntil(() -> !evicted.isOpen());
+    }
+
+    @Test
+    public void whenASessionIsEvictedBeforeItsCallerOpensATransaction_ItStaysOpenForThatTransaction() throws InterruptedException {
+        client.cacheSessions(1, 1, TimeUnit.MINUTES);
+        GraknClient.Session evicted = client.session(randomKeyspace());
+
+        client.session(randomKeyspace());
+        assertEquals(1, client.sessionCache().evictionCount());
+        Thread.sleep(200);
+        assertTrue(evicted.isOpen());
+
+        GraknClient.Transaction tx = evicted.transaction().read();
+        try {
+            assertNotNull(tx.getSchemaConcept(Label.of("thing")));
+        } finally {
+            tx.close();
+        }
+        waitUntil(() -> !evicted.isOpen());
+    }
+
+    @Test
+    public void whenTheSessionsAreCachedAnew_SessionsInUseAreClosedOnceTheirTransactionsAre() throws InterruptedException {
+        client.cacheSessions(2, 1, TimeUnit.MINUTES);
+        GraknClient.Session replaced = client.session(randomKeyspace());
+        GraknClient.Transaction tx = replaced.transaction().read();
+        try {
+            client.cacheSessions(2, 1, TimeUnit.MINUTES);
+
+            Thread.sleep(500);
+            assertTrue(replaced.isOpen());
+            assertNotNull(tx.getSchemaConcept(Label.of("thing")));
+        } finally {
+            tx.close();
+        }
+
+        waitUntil(() -> !replaced.isOpen());
+    }
+
+    @Test
+    public void whenASessionIsEvictedWhileACommitIsPending_ItIsClosedOnlyOnceTheCommitIsAnswered() throws InterruptedException {
+        client.cacheSessions(1, 1, TimeUnit.MINUTES);
+        GraknClient.Session evicted = client.session(randomKeyspace());
+        GraknClient.Transaction tx = evicted.transaction().write();
+        EntityType person = tx.putEntityType("person");
+        for (int i = 0; i < 500; i++) person.create();
+        CompletableFuture<Void> committed = tx.commitAsync();
+        assertFalse(tx.isOpen());
+
+        client.session(randomKeyspace());
+        assertEquals(1, client.sessionCache().evictionCount());
+        while (!committed.isDone()) {
+            boolean open = evicted.isOpen();
+            assertTrue(open || committed.isDone());
+        }
+        committed.join();
+
+        waitUntil(() -> !evicted.isOpen());
+    }
+
+    private static String randomKeyspace() {
+        return "a" + UUID.randomUUID().toString().replaceAll("-", "");
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue("Timed out waiting for the condition", System.currentTimeMillis() < deadline);
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,543 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.test.integration.transaction;
+
+import grakn.client.GraknClient;
+import grakn.client.answer.ConceptMap;
+import grakn.client.concept.ConceptId;
+import grakn.client.concept.Entity;
+import grakn.client.concept.EntityType;
+import grakn.client.concept.Label;
+import grakn.client.concept.RelationType;
+import grakn.client.concept.Role;
+import grakn.client.concept.SchemaConcept;
+import grakn.client.exception.GraknClientException;
+import grakn.client.rpc.ConcurrencyLimiter;
+import grakn.client.rpc.Publisher;
+import grakn.client.test.setup.GraknProperties;
+import grakn.client.test.setup.GraknSetup;
+import graql.lang.Graql;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static graql.lang.Graql.var;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Integration Tests for the transport behaviour of Transactions: pipelining, read-ahead, asynchronous calls and
+ * publishing, which are independent of the concept API they carry.
+ */
+public class TransactionIT {
+
+    private static String address;
+    private static GraknClient client;
+    private static GraknClient.Session session;
+    private GraknClient.Transaction tx;
+
+    private Label PERSON = Label.of("person");
+
+    private EntityType person;
+    private Entity alice;
+    private Entity bob;
+
+    @BeforeClass
+    public static void setUpClass() throws InterruptedException, IOException, TimeoutException {
+        GraknSetup.bootup();
+
+        String randomKeyspace = "a" + UUID.randomUUID().toString().replaceAll("-", "");
+        address = System.getProperty(GraknProperties.GRAKN_ADDRESS);
+        client = new GraknClient(address);
+        session = client.session(randomKeyspace);
+    }
+
+    @AfterClass
+    public static void closeSession() throws InterruptedException, TimeoutException, IOException {
+        session.close();
+        client.close();
+        GraknSetup.shutdown();
+    }
+
+    @Before
+    public void setUp() {
+        tx = session.transaction().write();
+
+        person = tx.putEntityType(PERSON);
+        Role wife = tx.putRole("wife");
+        Role husband = tx.putRole("husband");
+        RelationType marriage = tx.putRelationType("marriage").relates(wife).relates(husband);
+        person.plays(wife).plays(husband);
+
+        alice = person.create();
+        bob = person.create();
+        marriage.create().assign(wife, alice).assign(husband, bob);
+    }
+
+    @After
+    public void closeTx() {
+        tx.close();
+    }
+
+    @Test
+    public void whenIteratingWithReadAhead_InterleavedCallsGetTheirOwnResponses() {
+        GraknClient.Transaction readAheadTx = session.transaction().readAhead(4).write();
+        try {
+            EntityType robot = readAheadTx.putEntityType("robot");
+            for (int i = 0; i < 10; i++) robot.create();
+
+            List<ConceptMap> answers = readAheadTx.execute(Graql.match(var("x").isa("robot")).get());
+            assertEquals(10, answers.size());
+
+            // Each call to type() is answered while iterate requests of instances() are still in flight
+            assertEquals(10, robot.instances().filter(instance -> instance.type().equals(robot)).count());
+        } finally {
+            readAheadTx.close();
+        }
+    }
+
+    @Test
+    public void whenWaitingOnFuturesWhileReadAheadResponsesAreBuffered_TheFuturesAreStillAnswered() {
+        GraknClient.Transaction smallBufferTx = session.transaction()
+                .readAhead(8).maxBufferedResponses(2).maxBufferedBytes(1).write();
+        try {
+            EntityType robot = smallBufferTx.putEntityType("robot");
+            List<ConceptId> ids = new ArrayList<>();
+            for (int i = 0; i < 10; i++) ids.add(robot.create().id());
+
+            // The first answer leaves read-ahead iterate responses on the stream, holding back the server's credit
+            Iterator<Entity> instances = robot.instances().iterator();
+            instances.next();
+
+            assertEquals(10, smallBufferTx.getConcepts(ids).size());
+            assertEquals(robot, smallBufferTx.async().getSchemaConcept(Label.of("robot")).join());
+
+            int count = 1;
+            for (; instances.hasNext(); instances.next()) count++;
+            assertEquals(10, count);
+        } finally {
+            smallBufferTx.close();
+        }
+    }
+
+    @Test
+    public void whenJoiningFuturesDerivedFromAsyncCallsWhileReadAheadResponsesAreBuffered_TheyAreStillAnswered() {
+        GraknClient.Transaction smallBufferTx = session.transaction()
+                .readAhead(8).maxBufferedResponses(2).maxBufferedBytes(1).write();
+        try {
+            EntityType robot = smallBufferTx.putEntityType("robot");
+            Entity first = robot.create();
+            Entity second = robot.create();
+            for (int i = 0; i < 8; i++) robot.create();
+
+            Iterator<Entity> instances = robot.instances().iterator();
+            instances.next();
+
+            GraknClient.AsyncTransaction async = smallBufferTx.async();
+            CompletableFuture<Entity> firstFuture = async.getConcept(first.id());
+            CompletableFuture<Entity> secondFuture = async.getConcept(second.id());
+            async.allOf(firstFuture, secondFuture).join();
+            assertEquals(first, firstFuture.join());
+
+            CompletableFuture<Entity> firstAgain = async.getConcept(first.id());
+            CompletableFuture<Entity> secondAgain = async.getConcept(second.id());
+            CompletableFuture<List<Entity>> both = firstAgain.thenCombine(secondAgain, Arrays::asList);
+            assertEquals(Arrays.asList(first, second), async.waitable(both).join());
+        } finally {
+            smallBufferTx.close();
+        }
+    }
+
+    @Test
+    public void whenTheSchemaIsCached_AsyncSchemaLookupsAreAnsweredFromTheCache() {
+        GraknClient.Session cachingSession = client.session(session.keyspace().name()).cacheSchema();
+        try {
+            // The cache is shared by every session of the client on the keyspace, so start from an empty one
+            cachingSession.schemaCache().invalidate();
+            GraknClient.Transaction readTx = cachingSession.transaction().read();
+            try {
+                SchemaConcept entity = readTx.async().getSchemaConcept(Label.of("entity")).join();
+                assertEquals(1, cachingSession.schemaCache().size());
+
+                CompletableFuture<SchemaConcept> cached = readTx.async().getSchemaConcept(Label.of("entity"));
+                assertTrue(cached.isDone());
+                assertEquals(entity, cached.join());
+            } finally {
+                readTx.close();
+            }
+        } finally {
+            cachingSession.close();
+        }
+    }
+
+    @Test
+    public void whenSharingAThreadSafeTransaction_EachThreadGetsItsOwnResponses() {
+        GraknClient.Transaction sharedTx = session.transaction().threadSafe().write();
+        try {
+            EntityType robot = sharedTx.putEntityType("robot");
+            List<Entity> robots = new ArrayList<>();
+            for (int i = 0; i < 50; i++) robots.add(robot.create());
+
+            assertTrue(robots.parallelStream().allMatch(r -> r.equals(sharedTx.getConcept(r.id()))));
+        } finally {
+            sharedTx.close();
+        }
+    }
+
+    @Test
+    public void whenGettingConceptsAsynchronously_FuturesCompleteWithTheirOwnConcepts() {
+        CompletableFuture<Entity> aliceFuture = tx.async().getConcept(alice.id());
+        CompletableFuture<Entity> bobFuture = tx.async().getConcept(bob.id());
+        CompletableFuture<EntityType> personFuture = tx.async().getSchemaConcept(PERSON);
+
+        assertEquals(alice, aliceFuture.join());
+        assertEquals(bob, bobFuture.join());
+        assertEquals(person, personFuture.join());
+        assertEquals(PERSON, person.label());
+    }
+
+    @Test
+    public void whenSubscribingToAQuery_AnswersArePublishedOnDemand() throws InterruptedException {
+        List<ConceptMap> answers = new ArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        tx.publish(Graql.match(var("x").isa("person")).get()).subscribe(new Publisher.Subscriber<ConceptMap>() {
+            private Publisher.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Publisher.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(ConceptMap answer) {
+                answers.add(answer);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                completed.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+        assertThat(answers.stream().map(answer -> answer.get("x")).collect(toList()), containsInAnyOrder(alice, bob));
+    }
+
+    @Test
+    public void whenPublishingOnAnExecutor_TheSubscriberCanMakeBlockingCalls() throws InterruptedException {
+        List<Label> types = Collections.synchronizedList(new ArrayList<>());
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            tx.publish(Graql.match(var("x").isa("person")).get(), true, executor).subscribe(new Publisher.Subscriber<ConceptMap>() {
+                private Publisher.Subscription subscription;
+
+                @Override
+                public void onSubscribe(Publisher.Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onNext(ConceptMap answer) {
+                    // type() waits for a response delivered by the gRPC callback thread
+                    types.add(answer.get("x").asThing().type().label());
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    error.set(throwable);
+                    completed.countDown();
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.countDown();
+                }
+            });
+
+            assertTrue(completed.await(10, TimeUnit.SECONDS));
+            assertNull(error.get());
+            assertEquals(Arrays.asList(PERSON, PERSON), types);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void whenSubscribingToAClosedTransaction_TheErrorIsSignalledNotThrown() throws InterruptedException {
+        GraknClient.Transaction closedTx = session.transaction().write();
+        closedTx.close();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch failed = new CountDownLatch(1);
+
+        closedTx.publish(Graql.match(var("x").isa("person")).get()).subscribe(new Publisher.Subscriber<ConceptMap>() {
+            @Override
+            public void onSubscribe(Publisher.Subscription subscription) {
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(ConceptMap answer) {}
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+                failed.countDown();
+            }
+
+            @Override
+            public void onComplete() {}
+        });
+
+        assertTrue(failed.await(10, TimeUnit.SECONDS));
+        assertNotNull(error.get());
+    }
+
+    @Test
+    public void whenOpeningATransactionLazily_TheFirstRequestGetsItsOwnResponse() {
+        GraknClient.Transaction lazyTx = session.transaction().lazyOpen().write();
+        try {
+            EntityType robot = lazyTx.putEntityType("robot");
+
+            assertEquals(Label.of("robot"), robot.label());
+            assertEquals(robot, lazyTx.getSchemaConcept(Label.of("robot")));
+        } finally {
+            lazyTx.close();
+        }
+    }
+
+    @Test
+    public void whenCommittingAsynchronously_TheCommitIsVisibleOnceTheFutureCompletes() {
+        GraknClient.Transaction writeTx = session.transaction().write();
+        try {
+            writeTx.putEntityType("android");
+            writeTx.commitAsync().join();
+        } finally {
+            writeTx.close();
+        }
+
+        GraknClient.Transaction readTx = session.transaction().read();
+        try {
+            assertNotNull(readTx.getEntityType("android"));
+        } finally {
+            readTx.close();
+        }
+    }
+
+    @Test
+    public void whenExecutingABatch_EachQueryGetsItsOwnAnswers() {
+        tx.putEntityType("robot");
+        List<GraknClient.Transaction.BatchResult> results = tx.executeBatch(Arrays.asList(
+                Graql.match(var("x").isa("person")).get(),
+                Graql.match(var("x").isa("marriage")).get(),
+                Graql.match(var("x").isa("robot")).get()
+        ));
+
+        assertEquals(3, results.size());
+        assertTrue(results.stream().allMatch(GraknClient.Transaction.BatchResult::isSuccessful));
+        assertThat(results.get(0).answers().stream().map(answer -> ((ConceptMap) answer).get("x")).collect(toList()),
+                   containsInAnyOrder(alice, bob));
+        assertEquals(1, results.get(1).answers().size());
+        assertTrue(results.get(2).answers().isEmpty());
+    }
+
+    @Test
+    public void whenExecutingABatchWithReadAhead_EachQueryGetsAllOfItsAnswers() {
+        GraknClient.Transaction readAheadTx = session.transaction().readAhead(4).write();
+        try {
+            EntityType robot = readAheadTx.putEntityType("robot");
+            for (int i = 0; i < 10; i++) robot.create();
+
+            List<GraknClient.Transaction.BatchResult> results = readAheadTx.executeBatch(Arrays.asList(
+                    Graql.match(var("x").isa("robot")).get(),
+                    Graql.match(var("x").isa("person")).get()
+            ));
+
+            assertEquals(10, results.get(0).answers().size());
+            assertEquals(2, results.get(1).answers().size());
+        } finally {
+            readAheadTx.close();
+        }
+    }
+
+    @Test
+    public void whenReleasingATransactionToThePool_ItIsHandedOutAgain() throws InterruptedException {
+        GraknClient.TransactionPool pool = session.transactionPool(2);
+        try {
+            waitUntil(() -> pool.idleCount() == 2);
+
+            GraknClient.Transaction pooledTx = pool.acquire();
+            assertTrue(pooledTx.isOpen());
+            assertEquals(GraknClient.Transaction.Type.READ, pooledTx.type());
+            pool.release(pooledTx);
+
+            assertSame(pooledTx, pool.acquire());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void whenTakingATransactionFromThePool_ThePoolIsRefilled() throws InterruptedException {
+        GraknClient.TransactionPool pool = session.transactionPool(2);
+        try {
+            waitUntil(() -> pool.idleCount() == 2);
+            GraknClient.Transaction pooledTx = pool.acquire();
+            try {
+                waitUntil(() -> pool.idleCount() == 2);
+            } finally {
+                pooledTx.close();
+            }
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void whenAPooledTransactionIsIdleForTooLong_ItIsClosed() throws InterruptedException {
+        GraknClient.TransactionPool pool = session.transactionPool(1, 200, 60_000, TimeUnit.MILLISECONDS);
+        try {
+            GraknClient.Transaction pooledTx = pool.acquire();
+            pool.release(pooledTx);
+
+            waitUntil(() -> !pooledTx.isOpen());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void whenAPooledTransactionIsReusedPastItsMaximumAge_ItIsRetired() throws InterruptedException {
+        GraknClient.TransactionPool pool = session.transactionPool(1, 60_000, 500, TimeUnit.MILLISECONDS);
+        try {
+            GraknClient.Transaction pooledTx = pool.acquire();
+            // Given back often enough never to be idle for long, but opened only once
+            GraknClient.Transaction held = pooledTx;
+            for (int i = 0; i < 10; i++) {
+                pool.release(held);
+                Thread.sleep(100);
+                held = pool.acquire();
+            }
+            pool.release(held);
+
+            waitUntil(() -> !pooledTx.isOpen());
+            assertNotSame(pooledTx, pool.acquire());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void whenAPooledTransactionIsClosedWhileIdle_ItIsNotHandedOut() throws InterruptedException {
+        GraknClient.TransactionPool pool = session.transactionPool(1, 200, 60_000, TimeUnit.MILLISECONDS);
+        try {
+            GraknClient.Transaction pooledTx = pool.acquire();
+            pool.release(pooledTx);
+            pooledTx.close();
+            waitUntil(() -> !pooledTx.isOpen());
+
+            // The maintenance run finds the closed transaction unhealthy, and opens another in its place
+            waitUntil(() -> pool.idleCount() == 1);
+            GraknClient.Transaction replacement = pool.acquire();
+            assertNotSame(pooledTx, replacement);
+            assertTrue(replacement.isOpen());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test(expected = GraknClientException.class)
+    public void whenAcquiringFromAClosedPool_AGraknClientExceptionIsThrown() {
+        GraknClient.TransactionPool pool = session.transactionPool(1);
+        pool.close();
+
+        pool.acquire();
+    }
+
+    @Test
+    public void whenPooledTransactionsAreIdle_TheyHoldNoPlaceInTheConcurrencyLimiter() throws InterruptedException {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.aimd(4, 4, 4);
+        GraknClient limitedClient = new GraknClient(address).limitConcurrency(limiter);
+        GraknClient.Session limitedSession = limitedClient.session(session.keyspace().name());
+        try {
+            GraknClient.TransactionPool pool = limitedSession.transactionPool(2);
+            try {
+                waitUntil(() -> pool.idleCount() == 2);
+                assertEquals(0, limiter.inFlight());
+
+                GraknClient.Transaction pooledTx = pool.acquire();
+                waitUntil(() -> pool.idleCount() == 2);
+                assertEquals(1, limiter.inFlight());
+                pool.release(pooledTx);
+                assertEquals(0, limiter.inFlight());
+            } finally {
+                pool.close();
+            }
+            assertEquals(0, limiter.inFlight());
+        } finally {
+            limitedSession.close();
+            limitedClient.close();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue("Timed out waiting for the condition", System.currentTimeMillis() < deadline);
+            Thread.sleep(50);
+        }
+    }
+}
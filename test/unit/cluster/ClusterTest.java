@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.test.unit.cluster;
+
+import grakn.client.GraknClient;
+import grakn.protocol.session.SessionProto;
+import grakn.protocol.session.SessionServiceGrpc;
+import io.grpc.Server;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the routing of a Cluster's transactions, against in-process servers which open sessions and transactions
+ * without a Grakn behind them.
+ */
+public class ClusterTest {
+
+    private final List<Server> servers = new ArrayList<>();
+    private final List<FakeSessionService> services = new ArrayList<>();
+    private GraknClient.Cluster cluster;
+    private GraknClient.ClusterSession session;
+
+    @Before
+    public void setUp() throws IOException {
+        for (int i = 0; i < 2; i++) {
+            FakeSessionService service = new FakeSessionService();
+            services.add(service);
+            servers.add(InProcessServerBuilder.forName(serverName(i)).directExecutor().addService(service).build().start());
+        }
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        if (session != null) session.close();
+        if (cluster != null) cluster.close();
+        for (Server server : servers) {
+            server.shutdownNow().awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void whenOpeningWriteTransactions_TheyAllGoToThePrimary() {
+        cluster = cluster(node(0), node(1)).primary(1);
+        session = cluster.session("keyspace");
+
+        for (int i = 0; i < 3; i++) session.transaction(GraknClient.Transaction.Type.WRITE).close();
+
+        assertEquals(0, services.get(0).writeTransactions.get());
+        assertEquals(3, services.get(1).writeTransactions.get());
+    }
+
+    @Test
+    public void whenBalancingByLeastOutstanding_ReadsAreSpreadEvenly() {
+        cluster = cluster(node(0), node(1)).balancing(GraknClient.Cluster.Balancing.LEAST_OUTSTANDING);
+        session = cluster.session("keyspace");
+
+        List<GraknClient.Transaction> transactions = openReads(4);
+        try {
+            assertArrayEquals(new int[]{2, 2}, cluster.load());
+            assertEquals(2, services.get(0).readTransactions.get());
+            assertEquals(2, services.get(1).readTransactions.get());
+        } finally {
+            transactions.forEach(GraknClient.Transaction::close);
+        }
+    }
+
+    @Test
+    public void whenBalancingByPowerOfTwoChoicesOverTwoNodes_ReadsGoToTheLessLoaded() {
+        cluster = cluster(node(0), node(1)).balancing(GraknClient.Cluster.Balancing.POWER_OF_TWO_CHOICES);
+        session = cluster.session("keyspace");
+
+        List<GraknClient.Transaction> transactions = openReads(4);
+        try {
+            // With two nodes both are always picked, so the choice is never left to chance
+            assertArrayEquals(new int[]{2, 2}, cluster.load());
+        } finally {
+            transactions.forEach(GraknClient.Transaction::close);
+        }
+    }
+
+    @Test
+    public void whenANodeIsUnavailable_ItIsMarkedDownAndTheReadIsRetriedOnAnother() throws InterruptedException {
+        cluster = cluster(unreachableNode(), node(1))
+                .balancing(GraknClient.Cluster.Balancing.LEAST_OUTSTANDING)
+                .downTime(200, TimeUnit.MILLISECONDS);
+        session = cluster.session("keyspace");
+
+        // With no load anywhere, the first node is tried first
+        session.transaction(GraknClient.Transaction.Type.READ).close();
+
+        assertEquals(1, services.get(1).readTransactions.get());
+        assertFalse(cluster.isUp(0));
+        assertTrue(cluster.isUp(1));
+
+        // While it is down, reads go straight to the other node
+        session.transaction(GraknClient.Transaction.Type.READ).close();
+        assertEquals(2, services.get(1).readTransactions.get());
+
+        Thread.sleep(300);
+        assertTrue(cluster.isUp(0));
+    }
+
+    @Test(expected = StatusRuntimeException.class)
+    public void whenEveryNodeIsUnavailable_TheReadFails() {
+        cluster = cluster(unreachableNode(), unreachableNode());
+        session = cluster.session("keyspace");
+
+        session.transaction(GraknClient.Transaction.Type.READ);
+    }
+
+    @Test(expected = StatusRuntimeException.class)
+    public void whenThePrimaryIsUnavailable_WritesAreNotRetriedElsewhere() {
+        cluster = cluster(unreachableNode(), node(1));
+        session = cluster.session("keyspace");
+
+        try {
+            session.transaction(GraknClient.Transaction.Type.WRITE);
+        } finally {
+            assertEquals(0, services.get(1).writeTransactions.get());
+        }
+    }
+
+    @Test
+    public void whenANodeIsSlowToOpenASession_TransactionsOnOtherNodesAreNotHeldUp() throws Exception {
+        cluster = cluster(node(0), node(1))
+                .primary(1)
+                .balancing(GraknClient.Cluster.Balancing.LEAST_OUTSTANDING);
+        session = cluster.session("keyspace");
+        services.get(0).openGate = new CountDownLatch(1);
+
+        // With no load anywhere, the read goes to the first node, where opening the session hangs
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> read = executor.submit(() -> session.transaction(GraknClient.Transaction.Type.READ).close());
+            assertTrue(services.get(0).opening.await(10, TimeUnit.SECONDS));
+
+            CompletableFuture.runAsync(() -> session.transaction(GraknClient.Transaction.Type.WRITE).close())
+                    .get(10, TimeUnit.SECONDS);
+            assertEquals(1, services.get(1).writeTransactions.get());
+
+            services.get(0).openGate.countDown();
+            read.get(10, TimeUnit.SECONDS);
+            assertEquals(1, services.get(0).readTransactions.get());
+        } finally {
+            services.get(0).openGate.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private List<GraknClient.Transaction> openReads(int count) {
+        List<GraknClient.Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            transactions.add(session.transaction(GraknClient.Transaction.Type.READ));
+        }
+        return transactions;
+    }
+
+    private static GraknClient.Cluster cluster(GraknClient... nodes) {
+        return new GraknClient.Cluster(Arrays.asList(nodes));
+    }
+
+    private static GraknClient node(int index) {
+        return new GraknClient().overrideChannel(InProcessChannelBuilder.forName(serverName(index)).directExecutor().build());
+    }
+
+    private static GraknClient unreachableNode() {
+        return new GraknClient().overrideChannel(InProcessChannelBuilder.forName(UUID.randomUUID().toString()).build());
+    }
+
+    private static String serverName(int index) {
+        return ClusterTest.class.getName() + "-" + index;
+    }
+
+    /**
+     * Opens sessions and transactions, answering every transaction request as if it opened the transaction, and
+     * counts the transactions opened of each type.
+     */
+    private static class FakeSessionService extends SessionServiceGrpc.SessionServiceImplBase {
+
+        private final AtomicInteger readTransactions = new AtomicInteger();
+        private final AtomicInteger writeTransactions = new AtomicInteger();
+        private final CountDownLatch opening = new CountDownLatch(1);
+        // When set, opening a session waits for it to be counted down
+        private volatile CountDownLatch openGate;
+
+        @Override
+        public void open(SessionProto.Session.Open.Req request, StreamObserver<SessionProto.Session.Open.Res> responseObserver) {
+            opening.countDown();
+            CountDownLatch gate = openGate;
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            responseObserver.onNext(SessionProto.Session.Open.Res.newBuilder().setSessionId(UUID.randomUUID().toString()).build());
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void close(SessionProto.Session.Close.Req request, StreamObserver<SessionProto.Session.Close.Res> responseObserver) {
+            responseObserver.onNext(SessionProto.Session.Close.Res.getDefaultInstance());
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public StreamObserver<SessionProto.Transaction.Req> transaction(StreamObserver<SessionProto.Transaction.Res> responseObserver) {
+            return new StreamObserver<SessionProto.Transaction.Req>() {
+                @Override
+                public void onNext(SessionProto.Transaction.Req request) {
+                    if (request.hasOpenReq()) {
+                        if (request.getOpenReq().getType() == SessionProto.Transaction.Type.WRITE) {
+                            writeTransactions.incrementAndGet();
+                        } else {
+                            readTransactions.incrementAndGet();
+                        }
+                    }
+                    responseObserver.onNext(SessionProto.Transaction.Res.newBuilder()
+                                                    .setOpenRes(SessionProto.Transaction.Open.Res.getDefaultInstance()).build());
+                }
+
+                @Override
+                public void onError(Throwable throwable) {}
+
+                @Override
+                public void onCompleted() {
+                    responseObserver.onCompleted();
+                }
+            };
+        }
+    }
+}
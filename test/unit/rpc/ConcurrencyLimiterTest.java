@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.test.unit.rpc;
+
+import grakn.client.exception.GraknClientException;
+import grakn.client.rpc.ConcurrencyLimiter;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+public class ConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(5);
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenTheInitialLimitIsBelowTheMinimum_CreatingTheLimiterFails() {
+        ConcurrencyLimiter.aimd(1, 2, 10);
+    }
+
+    @Test
+    public void whenASingleRoundTripIsSlow_TheLimitIsKept() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.aimd(10, 1, 100);
+
+        roundTrips(limiter, 19, FAST);
+        roundTrips(limiter, 1, SLOW);
+
+        assertEquals(10, limiter.limit());
+    }
+
+    @Test
+    public void whenRoundTripsAreSlowOnAverage_TheLimitIsCutOncePerWindow() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.aimd(10, 1, 100);
+
+        roundTrips(limiter, 20, FAST);
+        roundTrips(limiter, 20, SLOW);
+        assertEquals(9, limiter.limit());
+
+        roundTrips(limiter, 20, SLOW);
+        assertEquals(8, limiter.limit());
+    }
+
+    @Test
+    public void whenRoundTripsAreSlowForLong_TheLimitStopsAtTheMinimum() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.aimd(4, 3, 100);
+
+        roundTrips(limiter, 20, FAST);
+        roundTrips(limiter, 200, SLOW);
+
+        assertEquals(3, limiter.limit());
+    }
+
+    @Test
+    public void whenRoundTripsAreFastAndTheLimitIsInUse_TheLimitGrowsByOnePerWindow() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.aimd(10, 1, 100);
+        for (int i = 0; i < 10; i++) limiter.acquire();
+
+        roundTrips(limiter, 20, FAST);
+        assertEquals(11, limiter.limit());
+
+        roundTrips(limiter, 20, FAST);
+        assertEquals(12, limiter.limit());
+    }
+
+    @Test
+    public void whenRoundTripsAreFastButTheLimitIsNotInUse_TheLimitIsKept() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.aimd(10, 1, 100);
+
+        roundTrips(limiter, 100, FAST);
+
+        assertEquals(10, limiter.limit());
+    }
+
+    @Test(expected = GraknClientException.class)
+    public void whenTheLimitIsReachedAndOverflowIsRejected_AcquiringFails() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.aimd(1, 1, 1)
+                .overflow(ConcurrencyLimiter.Overflow.REJECT, 0, TimeUnit.MILLISECONDS);
+        limiter.acquire();
+
+        limiter.acquire();
+    }
+
+    @Test(expected = GraknClientException.class)
+    public void whenTheLimitIsReachedAndNoPlaceIsFreedInTime_AcquiringFails() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.aimd(1, 1, 1)
+                .overflow(ConcurrencyLimiter.Overflow.QUEUE, 50, TimeUnit.MILLISECONDS);
+        limiter.acquire();
+
+        limiter.acquire();
+    }
+
+    @Test
+    public void whenAPlaceIsReleased_AWaitingAcquireTakesIt() throws InterruptedException {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.aimd(1, 1, 1)
+                .overflow(ConcurrencyLimiter.Overflow.QUEUE, 10, TimeUnit.SECONDS);
+        limiter.acquire();
+
+        Thread waiting = new Thread(limiter::acquire);
+        waiting.start();
+        while (limiter.queueLength() == 0) Thread.sleep(10);
+        limiter.release();
+        waiting.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertEquals(1, limiter.inFlight());
+        assertEquals(0, limiter.queueLength());
+    }
+
+    private static void roundTrips(ConcurrencyLimiter limiter, int count, long nanos) {
+        for (int i = 0; i < count; i++) limiter.roundTrip(nanos);
+    }
+}
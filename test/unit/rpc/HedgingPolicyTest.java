@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package grakn.client.test.unit.rpc;
+
+import grakn.client.rpc.HedgingPolicy;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class HedgingPolicyTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenThePercentileIsNotBetweenZeroAndOne_CreatingThePolicyFails() {
+        HedgingPolicy.create(1, 0.05);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void whenTheMaxHedgeRateIsAboveOne_CreatingThePolicyFails() {
+        HedgingPolicy.create(0.95, 1.5);
+    }
+
+    @Test
+    public void whenTooFewLatenciesAreRecorded_TheMinimumDelayIsUsed() {
+        HedgingPolicy policy = HedgingPolicy.create(0.9, 0.1).minDelay(5, TimeUnit.MILLISECONDS);
+        for (int i = 1; i < 100; i++) policy.recordLatency(TimeUnit.MILLISECONDS.toNanos(i));
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(5), policy.delayNanos());
+    }
+
+    @Test
+    public void whenEnoughLatenciesAreRecorded_TheDelayIsTheirPercentile() {
+        HedgingPolicy policy = HedgingPolicy.create(0.9, 0.1).minDelay(5, TimeUnit.MILLISECONDS);
+        for (int i = 1; i <= 100; i++) policy.recordLatency(TimeUnit.MILLISECONDS.toNanos(i));
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(91), policy.delayNanos());
+    }
+
+    @Test
+    public void whenRecentLatenciesAreBelowTheMinimumDelay_TheMinimumDelayIsUsed() {
+        HedgingPolicy policy = HedgingPolicy.create(0.9, 0.1).minDelay(5, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 100; i++) policy.recordLatency(TimeUnit.MICROSECONDS.toNanos(100));
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(5), policy.delayNanos());
+    }
+
+    @Test
+    public void whenHedgingWouldExceedTheMaxHedgeRate_TheHedgeIsRefused() {
+        HedgingPolicy policy = HedgingPolicy.create(0.95, 0.1);
+        for (int i = 0; i < 10; i++) policy.read();
+
+        assertTrue(policy.tryHedge());
+        assertFalse(policy.tryHedge());
+
+        for (int i = 0; i < 10; i++) policy.read();
+        assertTrue(policy.tryHedge());
+        assertFalse(policy.tryHedge());
+
+        assertEquals(20, policy.reads());
+        assertEquals(2, policy.hedges());
+        assertEquals(0.1, policy.hedgeRate(), 0.0001);
+    }
+
+    @Test
+    public void whenNoReadHasStarted_NothingIsHedged() {
+        HedgingPolicy policy = HedgingPolicy.create(0.95, 1);
+
+        assertFalse(policy.tryHedge());
+        assertEquals(0, policy.hedgeRate(), 0);
+    }
+
+    @Test
+    public void whenAHedgeWins_ItIsCounted() {
+        HedgingPolicy policy = HedgingPolicy.create(0.95, 1);
+        policy.read();
+        assertTrue(policy.tryHedge());
+        policy.hedgeWon();
+
+        assertEquals(1, policy.hedgeWins());
+    }
+}